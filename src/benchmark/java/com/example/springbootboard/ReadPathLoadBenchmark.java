@@ -0,0 +1,136 @@
+package com.example.springbootboard;
+
+import com.example.springbootboard.dto.UserDto;
+import com.example.springbootboard.dto.request.RequestCreatePost;
+import com.example.springbootboard.service.PostService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 같은 애플리케이션에서 블로킹(/api/v1/posts, JPA)과 논블로킹(/api/v1/reactive/posts, R2DBC) 조회 경로를 같은 부하로 비교한다
+// 목록 조회는 캐시를 타지 않으므로 매 요청이 DB 를 읽는다 (select + count)
+@Slf4j
+class ReadPathLoadBenchmark {
+
+    private static final int TOMCAT_MAX_THREADS = 50;
+    private static final int POSTS = 1_000;
+    private static final int CONCURRENCY = 200;
+    private static final int WARM_UP_REQUESTS = 2_000;
+    private static final int REQUESTS = 10_000;
+    private static final String QUERY = "?page=3&size=20&direction=desc";
+
+    @Test
+    @DisplayName("블로킹 조회 경로와 논블로킹 조회 경로의 처리량과 지연 시간을 비교한다")
+    public void compareReadPaths() throws Exception {
+        // application.yml 보다 우선하도록 커맨드 라인 인자로 넘긴다
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(SpringBootBoardApplication.class)
+                .run(
+                        "--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:read-path;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.format_sql=false",
+                        "--server.tomcat.threads.max=" + TOMCAT_MAX_THREADS)) {
+
+            PostService postService = context.getBean(PostService.class);
+            for (int i = 0; i < POSTS; i++) {
+                postService.save(createRequest(i));
+            }
+
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            URI blocking = URI.create(baseUrl + "/api/v1/posts" + QUERY);
+            URI reactive = URI.create(baseUrl + "/api/v1/reactive/posts" + QUERY);
+
+            // 먼저 실행하는 쪽이 JIT 워밍업 비용을 떠안지 않도록 둘 다 한 번씩 버린다
+            load(blocking, WARM_UP_REQUESTS);
+            load(reactive, WARM_UP_REQUESTS);
+
+            Result blockingResult = load(blocking, REQUESTS);
+            Result reactiveResult = load(reactive, REQUESTS);
+
+            log.info("concurrency {}, tomcat max threads {}, cores {}", CONCURRENCY, TOMCAT_MAX_THREADS, Runtime.getRuntime().availableProcessors());
+            log.info("blocking : {}", blockingResult);
+            log.info("reactive : {}", reactiveResult);
+        }
+    }
+
+    // 동시에 CONCURRENCY 개의 요청이 떠 있도록 유지하고 요청마다 응답 시간을 잰다
+    private Result load(URI uri, int requests) throws Exception {
+        HttpClient client = HttpClient.newHttpClient();
+        HttpRequest request = HttpRequest.newBuilder(uri).GET().build();
+        Semaphore inFlight = new Semaphore(CONCURRENCY);
+        AtomicInteger failures = new AtomicInteger();
+        long[] latencies = new long[requests];
+        CompletableFuture<?>[] responses = new CompletableFuture[requests];
+
+        long start = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            int index = i;
+            inFlight.acquire();
+            long sent = System.nanoTime();
+            responses[i] = client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, e) -> {
+                        latencies[index] = System.nanoTime() - sent;
+                        if (e != null || response.statusCode() != 200) {
+                            failures.incrementAndGet();
+                        }
+                        inFlight.release();
+                    });
+        }
+
+        CompletableFuture.allOf(responses).join();
+        long elapsed = System.nanoTime() - start;
+        if (failures.get() > 0) {
+            throw new IllegalStateException(failures.get() + " requests failed");
+        }
+
+        Arrays.sort(latencies);
+        return new Result(
+                Math.round(requests / (elapsed / 1_000_000_000.0)),
+                percentile(latencies, 0.50),
+                percentile(latencies, 0.99));
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        return sorted[(int) Math.ceil(p * sorted.length) - 1] / 1_000_000.0;
+    }
+
+    private RequestCreatePost createRequest(int i) {
+        return RequestCreatePost.builder()
+                .userDto(UserDto.builder()
+                        .name("user" + i % 10)
+                        .age(27)
+                        .hobby("SPORTS")
+                        .build())
+                .title("title" + i)
+                .content("content" + i)
+                .build();
+    }
+
+    private static class Result {
+        private final long requestsPerSecond;
+        private final double p50Millis;
+        private final double p99Millis;
+
+        Result(long requestsPerSecond, double p50Millis, double p99Millis) {
+            this.requestsPerSecond = requestsPerSecond;
+            this.p50Millis = p50Millis;
+            this.p99Millis = p99Millis;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d req/s, p50 %.1fms, p99 %.1fms", requestsPerSecond, p50Millis, p99Millis);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.springbootboard.controller;
+
+import com.example.springbootboard.dto.UserDto;
+import com.example.springbootboard.dto.request.RequestCreatePost;
+import com.example.springbootboard.dto.request.RequestCreatePostBatch;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// POST /api/v1/posts 를 N 번 호출하는 것과 POST /api/v1/posts/batch 로 나눠 보내는 것의 처리량 비교
+@Slf4j
+@AutoConfigureMockMvc
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:post-batch-benchmark;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.jpa.show-sql=false"
+})
+class PostBatchBenchmark {
+
+    private static final int WARM_UP_POSTS = 1_000;
+    private static final int POSTS = 5_000;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("단건 저장과 일괄 저장의 처리량을 비교한다")
+    public void compareThroughput() throws Exception {
+        saveOneByOne(WARM_UP_POSTS);
+        saveInBatches(WARM_UP_POSTS);
+
+        long single = saveOneByOne(POSTS);
+        long batch = saveInBatches(POSTS);
+
+        log.info("single: {} posts/s, batch({}): {} posts/s",
+                perSecond(single), RequestCreatePostBatch.MAX_BATCH_SIZE, perSecond(batch));
+    }
+
+    private long saveOneByOne(int count) throws Exception {
+        long start = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            mockMvc.perform(post("/api/v1/posts")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(createRequest(i))))
+                    .andExpect(status().isCreated());
+        }
+        return System.nanoTime() - start;
+    }
+
+    private long saveInBatches(int count) throws Exception {
+        long start = System.nanoTime();
+        for (int from = 0; from < count; from += RequestCreatePostBatch.MAX_BATCH_SIZE) {
+            List<RequestCreatePost> posts = new ArrayList<>();
+            for (int i = from; i < Math.min(count, from + RequestCreatePostBatch.MAX_BATCH_SIZE); i++) {
+                posts.add(createRequest(i));
+            }
+
+            mockMvc.perform(post("/api/v1/posts/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(RequestCreatePostBatch.builder().posts(posts).build())))
+                    .andExpect(status().isOk());
+        }
+        return System.nanoTime() - start;
+    }
+
+    private RequestCreatePost createRequest(int i) {
+        return RequestCreatePost.builder()
+                .userDto(UserDto.builder()
+                        .name("user" + i % 100)
+                        .age(27)
+                        .hobby("SPORTS")
+                        .build())
+                .title("title" + i)
+                .content("content" + i)
+                .build();
+    }
+
+    private long perSecond(long elapsedNanos) {
+        return Math.round(POSTS / (elapsedNanos / 1_000_000_000.0));
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.springbootboard.controller;
+
+import com.example.springbootboard.dto.PagePostDto;
+import com.example.springbootboard.dto.ResponseDto;
+import com.example.springbootboard.dto.response.PostDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 응답 본문(ResponseDto) 직렬화 비용. ObjectMapper 는 Spring Boot 와 같은 기본 설정으로 만든다
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResponseSerializationJmh {
+
+    @Param({"10", "50"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private ResponseDto<PostDto> one;
+    private ResponseDto<PagePostDto> page;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        LocalDateTime now = LocalDateTime.now();
+        List<PostDto> posts = new ArrayList<>(pageSize);
+        for (long i = 0; i < pageSize; i++) {
+            posts.add(new PostDto(i, "나는 전설이다 " + i, "좀비 세상에서 살아남기 ".repeat(20), now, "seunghun", now, 0L, 0L));
+        }
+
+        one = ResponseDto.<PostDto>builder()
+                .status(HttpStatus.OK)
+                .data(posts.get(0))
+                .build();
+
+        page = ResponseDto.<PagePostDto>builder()
+                .status(HttpStatus.OK)
+                .data(PagePostDto.builder()
+                        .posts(posts)
+                        .page(0)
+                        .size(pageSize)
+                        .first(true)
+                        .last(false)
+                        .totalElements(1_000L)
+                        .totalPages(1_000 / pageSize)
+                        .build())
+                .build();
+    }
+
+    @Benchmark
+    public byte[] serializeOne() throws Exception {
+        return objectMapper.writeValueAsBytes(one);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws Exception {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
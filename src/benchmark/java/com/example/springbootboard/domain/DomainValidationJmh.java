@@ -0,0 +1,55 @@
+package com.example.springbootboard.domain;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+// 요청마다 도는 도메인 검증 (User 이름 정규식, Title 길이)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DomainValidationJmh {
+
+    private User user;
+    private String name;
+    private String title;
+
+    @Setup
+    public void setUp() {
+        user = User.builder()
+                .name("seunghun")
+                .age(27)
+                .hobby(Hobby.SPORTS)
+                .createdBy("seunghun")
+                .createdAt(LocalDateTime.now())
+                .build();
+        name = "승훈_seunghun_27";
+        title = "좀비 세상에서 살아남기";
+    }
+
+    @Benchmark
+    public void validName() {
+        user.validName(name);
+    }
+
+    @Benchmark
+    public void validTitle(Blackhole blackhole) {
+        Title value = new Title(title);
+        blackhole.consume(value.isShorterThanMinLength());
+        blackhole.consume(value.isLongerThanMaxLength());
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.springbootboard.dto.request;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.concurrent.TimeUnit;
+
+// 목록 조회 파라미터 -> PageRequest 변환 비용
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RequestPagePostJmh {
+
+    private RequestPagePost request;
+
+    @Setup
+    public void setUp() {
+        request = new RequestPagePost();
+        request.setPage(3);
+        request.setSize(10);
+        request.setDirection("desc");
+    }
+
+    @Benchmark
+    public PageRequest of() {
+        return request.of();
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.springbootboard.service;
+
+import com.example.springbootboard.dto.UserDto;
+import com.example.springbootboard.dto.request.RequestCreatePost;
+import com.example.springbootboard.dto.response.PostImportResultDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 입력을 미리 만들지 않고 읽는 대로 생성해 가져오기 처리량과 힙 사용량을 본다 (DB 는 힙 밖에 두도록 파일로)
+@Slf4j
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:./target/post-import-benchmark;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.jpa.show-sql=false"
+})
+class PostImportBenchmark {
+
+    private static final int WARM_UP_POSTS = 5_000;
+    private static final int POSTS = 200_000;
+
+    @Autowired
+    private PostImporter postImporter;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("NDJSON 가져오기 처리량")
+    public void importThroughput() throws Exception {
+        postImporter.importFrom(new NdJsonStream(WARM_UP_POSTS));
+
+        PostImportResultDto result = postImporter.importFrom(new NdJsonStream(POSTS));
+
+        assertThat(result.getAccepted()).isEqualTo(POSTS);
+        Runtime runtime = Runtime.getRuntime();
+        log.info("import: {} posts in {}ms, {} posts/s, heap used {}MB / max {}MB",
+                result.getAccepted(), result.getElapsedMillis(), result.getPostsPerSecond(),
+                (runtime.totalMemory() - runtime.freeMemory()) >> 20, runtime.maxMemory() >> 20);
+    }
+
+    // count 줄의 NDJSON 을 필요한 만큼만 만들어 내보낸다
+    private class NdJsonStream extends InputStream {
+        private final int count;
+        private int next;
+        private byte[] line = new byte[0];
+        private int position;
+
+        NdJsonStream(int count) {
+            this.count = count;
+        }
+
+        @Override
+        public int read() {
+            if (position == line.length && !nextLine()) {
+                return -1;
+            }
+            return line[position++] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            if (position == line.length && !nextLine()) {
+                return -1;
+            }
+            int read = Math.min(length, line.length - position);
+            System.arraycopy(line, position, buffer, offset, read);
+            position += read;
+            return read;
+        }
+
+        private boolean nextLine() {
+            if (next == count) {
+                return false;
+            }
+
+            RequestCreatePost request = RequestCreatePost.builder()
+                    .userDto(UserDto.builder()
+                            .name("user" + next % 100)
+                            .age(27)
+                            .hobby("SPORTS")
+                            .build())
+                    .title("title" + next)
+                    .content("content" + next)
+                    .build();
+            next++;
+
+            try {
+                line = (objectMapper.writeValueAsString(request) + "\n").getBytes(StandardCharsets.UTF_8);
+            } catch (java.io.IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            position = 0;
+            return true;
+        }
+    }
+}
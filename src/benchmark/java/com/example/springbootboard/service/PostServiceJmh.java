@@ -0,0 +1,74 @@
+package com.example.springbootboard.service;
+
+import com.example.springbootboard.domain.Hobby;
+import com.example.springbootboard.domain.Post;
+import com.example.springbootboard.domain.Title;
+import com.example.springbootboard.domain.User;
+import com.example.springbootboard.dto.PagePostDto;
+import com.example.springbootboard.dto.response.PostDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 엔티티 -> PostDto, Page -> PagePostDto 변환 비용
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PostServiceJmh {
+
+    @Param({"10", "50"})
+    private int pageSize;
+
+    private Post post;
+    private Page<Post> page;
+
+    @Setup
+    public void setUp() {
+        User user = User.builder()
+                .name("seunghun")
+                .age(27)
+                .hobby(Hobby.SPORTS)
+                .createdBy("seunghun")
+                .createdAt(LocalDateTime.now())
+                .build();
+
+        List<Post> posts = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            posts.add(Post.createPost(new Title("나는 전설이다 " + i), "좀비 세상에서 살아남기 ".repeat(20), user));
+        }
+
+        post = posts.get(0);
+        page = new PageImpl<>(posts, PageRequest.of(0, pageSize, Sort.Direction.DESC, "createdAt"), 1_000);
+    }
+
+    @Benchmark
+    public PostDto toDto() {
+        return PostService.toDto(post);
+    }
+
+    @Benchmark
+    public PagePostDto toPageDto() {
+        Page<PostDto> result = page.map(PostService::toDto);
+        return PostService.toDto(result);
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.springbootboard.service;
+
+import com.example.springbootboard.config.SqlStatementCounter;
+import com.example.springbootboard.dto.UserDto;
+import com.example.springbootboard.dto.request.RequestCreatePost;
+import com.example.springbootboard.dto.request.RequestPatchPost;
+import com.example.springbootboard.dto.request.RequestUpdatePost;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongConsumer;
+
+// PUT(update: findById 로 @Lob 까지 읽고 dirty checking)과 PATCH(patch: bulk update 한 번)의 처리 시간과 SQL 수를 비교한다
+// 본문이 클수록 update 는 읽는 비용이 커진다
+@Slf4j
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:./target/post-update-benchmark;DB_CLOSE_ON_EXIT=FALSE",
+        "board.sql.timing.enabled=false"
+})
+class PostUpdateBenchmark {
+
+    private static final int POSTS = 2_000;
+    private static final int ROUNDS = 5;
+    private static final String CONTENT = "좀비 세상에서 살아남기 ".repeat(400);
+
+    @Autowired
+    private PostService postService;
+
+    @Test
+    @DisplayName("update(PUT)와 patch(PATCH)의 처리량과 SQL 수")
+    public void compareUpdatePaths() {
+        List<Long> postIds = new ArrayList<>(POSTS);
+        for (int i = 0; i < POSTS; i++) {
+            postIds.add(postService.save(createRequest(i)));
+        }
+
+        // 먼저 실행하는 쪽이 JIT 워밍업 비용을 떠안지 않도록 한 번씩 버린다
+        run(postIds, this::update);
+        run(postIds, this::patch);
+
+        for (int round = 0; round < ROUNDS; round++) {
+            log.info("round {}: update(PUT) {}, patch(PATCH) {}", round, run(postIds, this::update), run(postIds, this::patch));
+        }
+    }
+
+    private String run(List<Long> postIds, LongConsumer write) {
+        SqlStatementCounter.reset();
+        long start = System.nanoTime();
+        for (Long postId : postIds) {
+            write.accept(postId);
+        }
+        double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        SqlStatementCounter.Counts counts = SqlStatementCounter.current();
+        return String.format("%d updates/s, %.1fus/update (%s per %d)",
+                Math.round(postIds.size() / elapsedSeconds), elapsedSeconds * 1_000_000 / postIds.size(), counts, postIds.size());
+    }
+
+    private void update(long postId) {
+        postService.update(postId, RequestUpdatePost.builder()
+                .title("update title")
+                .content(CONTENT)
+                .build());
+    }
+
+    private void patch(long postId) {
+        postService.patch(postId, RequestPatchPost.builder()
+                .title("patch title")
+                .build());
+    }
+
+    private RequestCreatePost createRequest(int i) {
+        return RequestCreatePost.builder()
+                .userDto(UserDto.builder()
+                        .name("user" + i % 10)
+                        .age(27)
+                        .hobby("SPORTS")
+                        .build())
+                .title("title" + i)
+                .content(CONTENT)
+                .build();
+    }
+}
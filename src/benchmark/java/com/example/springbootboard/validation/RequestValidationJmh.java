@@ -0,0 +1,60 @@
+package com.example.springbootboard.validation;
+
+import com.example.springbootboard.dto.UserDto;
+import com.example.springbootboard.dto.request.RequestCreatePost;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.validation.Validation;
+import javax.validation.Validator;
+import java.util.concurrent.TimeUnit;
+
+// 게시물 생성 요청 한 건(RequestCreatePost + UserDto) 검증: Bean Validation vs 생성된 검증기
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RequestValidationJmh {
+
+    private Validator beanValidator;
+    private RequestValidator requestValidator;
+    private RequestCreatePost request;
+
+    @Setup
+    public void setUp() {
+        beanValidator = Validation.buildDefaultValidatorFactory().getValidator();
+        requestValidator = new RequestValidator(beanValidator);
+        request = RequestCreatePost.builder()
+                .userDto(UserDto.builder()
+                        .name("seunghun")
+                        .age(27)
+                        .hobby("SPORTS")
+                        .build())
+                .title("나는 전설이다")
+                .content("좀비 세상에서 살아남기")
+                .build();
+    }
+
+    @Benchmark
+    public void beanValidation(Blackhole blackhole) {
+        blackhole.consume(beanValidator.validate(request));
+        blackhole.consume(beanValidator.validate(request.getUserDto()));
+    }
+
+    @Benchmark
+    public void generated(Blackhole blackhole) {
+        blackhole.consume(requestValidator.validate(request));
+        blackhole.consume(requestValidator.validate(request.getUserDto()));
+    }
+}
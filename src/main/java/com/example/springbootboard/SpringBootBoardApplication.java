@@ -2,8 +2,12 @@ package com.example.springbootboard;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
-@SpringBootApplication
+@EnableScheduling
+// R2DBC 는 조회에만 쓴다 (R2dbcConfig). 자동 구성된 ConnectionFactory 가 있으면 JDBC DataSource 가 만들어지지 않는다
+@SpringBootApplication(exclude = R2dbcAutoConfiguration.class)
 public class SpringBootBoardApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,28 @@
+package com.example.springbootboard.config;
+
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+// 캐시 조회가 트랜잭션보다 먼저 실행되도록 해서 캐시 히트 시 커넥션을 잡지 않는다
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+@EnableConfigurationProperties(CacheProperties.class)
+@Configuration
+public class CacheConfig {
+
+    // 트랜잭션 안에서의 put/evict 는 커밋 후에 반영한다 (롤백된 값이 캐시에 남지 않는다)
+    @Bean
+    public CacheManager cacheManager(CacheProperties cacheProperties) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCacheSpecification(cacheProperties.getCaffeine().getSpec());
+        cacheManager.setCacheNames(cacheProperties.getCacheNames());
+
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
@@ -0,0 +1,176 @@
+package com.example.springbootboard.config;
+
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+// board.datasource.auto-size.enabled=true 이면 주기마다 풀의 maximumPoolSize 를 [min-size, max-size] 안에서 조정한다
+// - 커넥션 대기(acquire)가 target-wait 을 넘으면 step 만큼 늘린다
+// - 늘린 뒤 커넥션 사용 시간(DB 지연)이 크게 늘었으면 DB 가 병목이므로 되돌리고 그 크기 이상으로는 늘리지 않는다
+// - 대기가 없고 처리량 * 사용 시간(Little's law)으로 구한 필요 수가 현재보다 step 이상 작으면 줄인다
+// 줄일 때는 커넥션을 닫지 않고 minimumIdle 을 새 크기보다 작게 낮춰, housekeeper 가 idleTimeout 이 지난 유휴 커넥션만 닫게 한다
+@Slf4j
+@ConditionalOnProperty(name = "board.datasource.auto-size.enabled", havingValue = "true")
+@Component
+public class ConnectionPoolAutoSizer {
+
+    private final ConnectionPools connectionPools;
+    private final Policy policy;
+    private final Map<HikariDataSource, State> states = new IdentityHashMap<>();
+
+    public ConnectionPoolAutoSizer(ConnectionPools connectionPools,
+                                   @Value("${board.datasource.auto-size.min-size:5}") int minSize,
+                                   @Value("${board.datasource.auto-size.max-size:50}") int maxSize,
+                                   @Value("${board.datasource.auto-size.step:2}") int step,
+                                   @Value("${board.datasource.auto-size.target-wait-millis:10}") double targetWaitMillis) {
+        this.connectionPools = connectionPools;
+        this.policy = new Policy(minSize, maxSize, step, targetWaitMillis);
+    }
+
+    @Scheduled(fixedDelayString = "${board.datasource.auto-size.interval:10000}")
+    public synchronized void adjust() {
+        long now = System.nanoTime();
+        for (HikariDataSource pool : connectionPools.getPools()) {
+            ConnectionPools.PoolSnapshot snapshot = connectionPools.snapshot(pool);
+            State state = states.get(pool);
+            states.put(pool, new State(snapshot, now, state));
+
+            if (state == null || pool.getHikariPoolMXBean() == null) {
+                continue;
+            }
+
+            Observation observation = Observation.between(state, snapshot, now);
+            int current = pool.getMaximumPoolSize();
+            int next = policy.next(current, observation, states.get(pool));
+
+            if (next != current) {
+                resize(pool, current, next);
+                log.info("pool {} maximum size {} -> {} (wait {}ms, usage {}ms, {} connections/s, pending {})",
+                        pool.getPoolName(), current, next,
+                        Math.round(observation.meanWaitMillis), Math.round(observation.meanUsageMillis),
+                        Math.round(observation.usagesPerSecond), snapshot.getPending());
+            }
+        }
+    }
+
+    // softEvictConnections 는 남길 커넥션까지 모두 닫아 다시 연결하게 하므로 쓰지 않는다
+    // 풀은 maximumPoolSize 를 넘는 커넥션을 새로 만들지 않고, housekeeper 는 minimumIdle 이 maximumPoolSize 보다 작을 때만
+    // minimumIdle 을 넘는 유휴 커넥션을 닫는다. 그래서 줄일 때 minimumIdle 을 새 크기 - 1 이하로 둔다
+    static void resize(HikariDataSource pool, int current, int size) {
+        HikariConfigMXBean config = pool.getHikariConfigMXBean();
+        if (size < current && config.getMinimumIdle() >= size) {
+            config.setMinimumIdle(Math.max(0, size - 1));
+        }
+        config.setMaximumPoolSize(size);
+    }
+
+    // 크기 결정만 한다 (ConnectionPoolAutoSizerTest)
+    static class Policy {
+        // 늘리기 전보다 사용 시간이 이만큼 늘면 DB 포화로 본다
+        private static final double DB_SATURATION_RATIO = 1.5;
+        // Little's law 로 구한 필요 수에 더하는 여유
+        private static final double HEADROOM = 1.25;
+
+        private final int minSize;
+        private final int maxSize;
+        private final int step;
+        private final double targetWaitMillis;
+
+        Policy(int minSize, int maxSize, int step, double targetWaitMillis) {
+            this.minSize = minSize;
+            this.maxSize = maxSize;
+            this.step = step;
+            this.targetWaitMillis = targetWaitMillis;
+        }
+
+        int next(int current, Observation observation, State state) {
+            if (observation.meanWaitMillis > targetWaitMillis) {
+                if (state.usageBeforeGrow > 0 && observation.meanUsageMillis > state.usageBeforeGrow * DB_SATURATION_RATIO) {
+                    state.saturatedSize = current;
+                    state.usageBeforeGrow = 0;
+                    return clamp(current - step);
+                }
+                if (state.saturatedSize > 0 && current + step >= state.saturatedSize) {
+                    return clamp(current);
+                }
+                state.usageBeforeGrow = observation.meanUsageMillis;
+                return clamp(current + step);
+            }
+
+            state.usageBeforeGrow = 0;
+            state.saturatedSize = 0;
+
+            int needed = (int) Math.ceil(observation.usagesPerSecond * observation.meanUsageMillis / 1000 * HEADROOM);
+            if (needed < current - step) {
+                return clamp(current - step);
+            }
+            return clamp(current);
+        }
+
+        private int clamp(int size) {
+            return Math.max(minSize, Math.min(maxSize, size));
+        }
+    }
+
+    // 직전 주기와 이번 주기 사이의 변화량
+    static class Observation {
+        final double meanWaitMillis;
+        final double meanUsageMillis;
+        final double usagesPerSecond;
+
+        Observation(double meanWaitMillis, double meanUsageMillis, double usagesPerSecond) {
+            this.meanWaitMillis = meanWaitMillis;
+            this.meanUsageMillis = meanUsageMillis;
+            this.usagesPerSecond = usagesPerSecond;
+        }
+
+        static Observation between(State previous, ConnectionPools.PoolSnapshot snapshot, long now) {
+            long acquires = snapshot.getAcquire().getCount() - previous.acquireCount;
+            long usages = snapshot.getUsage().getCount() - previous.usageCount;
+            double seconds = Math.max(1e-3, (now - previous.nanoTime) / 1_000_000_000.0);
+
+            return new Observation(
+                    acquires == 0 ? 0 : (snapshot.getAcquire().getTotalMillis() - previous.acquireMillis) / acquires,
+                    usages == 0 ? 0 : (snapshot.getUsage().getTotalMillis() - previous.usageMillis) / usages,
+                    usages / seconds);
+        }
+    }
+
+    // 풀마다 직전 누적값과 조정 이력을 둔다
+    static class State {
+        private final long acquireCount;
+        private final double acquireMillis;
+        private final long usageCount;
+        private final double usageMillis;
+        private final long nanoTime;
+        private double usageBeforeGrow;
+        private int saturatedSize;
+
+        State(ConnectionPools.PoolSnapshot snapshot, long nanoTime, State previous) {
+            this.acquireCount = snapshot.getAcquire().getCount();
+            this.acquireMillis = snapshot.getAcquire().getTotalMillis();
+            this.usageCount = snapshot.getUsage().getCount();
+            this.usageMillis = snapshot.getUsage().getTotalMillis();
+            this.nanoTime = nanoTime;
+            if (previous != null) {
+                this.usageBeforeGrow = previous.usageBeforeGrow;
+                this.saturatedSize = previous.saturatedSize;
+            }
+        }
+
+        State() {
+            this.acquireCount = 0;
+            this.acquireMillis = 0;
+            this.usageCount = 0;
+            this.usageMillis = 0;
+            this.nanoTime = 0;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.springbootboard.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+// /actuator/connectionpool . 풀마다 사용 중/유휴/대기 수와 커넥션 획득(acquire)/사용(usage) 시간을 한 번에 본다
+// 같은 값은 /actuator/metrics/hikaricp.connections.* 에 pool 태그로도 있다
+@RequiredArgsConstructor
+@Endpoint(id = "connectionpool")
+@Component
+public class ConnectionPoolEndpoint {
+
+    private final ConnectionPools connectionPools;
+
+    @ReadOperation
+    public List<ConnectionPools.PoolSnapshot> pools() {
+        return connectionPools.getPools().stream()
+                .map(connectionPools::snapshot)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.springbootboard.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 애플리케이션이 쓰는 Hikari 풀(primary, replica)을 모은다
+// 빈으로 등록된 풀은 스프링 부트가 hikaricp.* 메트릭을 붙이지만, ReadWriteRoutingDataSource 안의 replica 풀은 여기서 붙인다
+@Slf4j
+@Component
+public class ConnectionPools {
+
+    static final String ACQUIRE_TIMER = "hikaricp.connections.acquire";
+    static final String USAGE_TIMER = "hikaricp.connections.usage";
+    private static final String POOL_TAG = "pool";
+
+    private final ObjectProvider<DataSource> dataSources;
+    private final MeterRegistry meterRegistry;
+    private volatile List<HikariDataSource> pools;
+
+    public ConnectionPools(ObjectProvider<DataSource> dataSources, MeterRegistry meterRegistry) {
+        this.dataSources = dataSources;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public List<HikariDataSource> getPools() {
+        List<HikariDataSource> current = pools;
+        if (current == null) {
+            current = collect();
+            pools = current;
+        }
+        return current;
+    }
+
+    // 커넥션을 기다린 시간. 풀 밖에서 요청이 대기한 시간이다
+    public Timer acquireTimer(HikariDataSource pool) {
+        return meterRegistry.find(ACQUIRE_TIMER).tag(POOL_TAG, pool.getPoolName()).timer();
+    }
+
+    // 커넥션을 빌려 반납할 때까지의 시간. SQL 실행과 트랜잭션 안의 처리 시간이다
+    public Timer usageTimer(HikariDataSource pool) {
+        return meterRegistry.find(USAGE_TIMER).tag(POOL_TAG, pool.getPoolName()).timer();
+    }
+
+    public PoolSnapshot snapshot(HikariDataSource pool) {
+        return new PoolSnapshot(pool, acquireTimer(pool), usageTimer(pool));
+    }
+
+    private List<HikariDataSource> collect() {
+        List<HikariDataSource> result = new ArrayList<>();
+        // dataSource 빈은 SqlStatementCountConfig 가 감쌌을 수 있으므로 unwrap 으로 꺼낸다
+        dataSources.orderedStream().forEach(dataSource -> {
+            ReadWriteRoutingDataSource routing = unwrap(dataSource, ReadWriteRoutingDataSource.class);
+            if (routing != null) {
+                for (DataSource replica : routing.getReplicas()) {
+                    if (replica instanceof HikariDataSource) {
+                        add(result, bindMetrics((HikariDataSource) replica));
+                    }
+                }
+                return;
+            }
+
+            HikariDataSource pool = unwrap(dataSource, HikariDataSource.class);
+            if (pool != null) {
+                add(result, pool);
+            }
+        });
+        return List.copyOf(result);
+    }
+
+    // DataSourceUnwrapper 는 인터페이스로만 JDBC Wrapper 를 따라가므로 직접 unwrap 한다
+    private static <T> T unwrap(DataSource dataSource, Class<T> type) {
+        try {
+            return dataSource.isWrapperFor(type) ? dataSource.unwrap(type) : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+
+    private static void add(List<HikariDataSource> result, HikariDataSource pool) {
+        if (result.stream().noneMatch(existing -> existing == pool)) {
+            result.add(pool);
+        }
+    }
+
+    private HikariDataSource bindMetrics(HikariDataSource pool) {
+        if (pool.getMetricRegistry() == null && pool.getMetricsTrackerFactory() == null) {
+            try {
+                pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            } catch (IllegalStateException e) {
+                log.warn("failed to bind metrics to pool {}", pool.getPoolName(), e);
+            }
+        }
+        return pool;
+    }
+
+    // 풀 상태와 누적 타이머 값. 풀이 아직 시작되지 않았으면 개수는 0 이다
+    @Getter
+    public static class PoolSnapshot {
+        private final String name;
+        private final int active;
+        private final int idle;
+        private final int total;
+        private final int pending;
+        private final int maximumPoolSize;
+        private final int minimumIdle;
+        private final TimerSnapshot acquire;
+        private final TimerSnapshot usage;
+
+        PoolSnapshot(HikariDataSource pool, Timer acquire, Timer usage) {
+            HikariPoolMXBean mxBean = pool.getHikariPoolMXBean();
+            this.name = pool.getPoolName();
+            this.active = mxBean == null ? 0 : mxBean.getActiveConnections();
+            this.idle = mxBean == null ? 0 : mxBean.getIdleConnections();
+            this.total = mxBean == null ? 0 : mxBean.getTotalConnections();
+            this.pending = mxBean == null ? 0 : mxBean.getThreadsAwaitingConnection();
+            this.maximumPoolSize = pool.getMaximumPoolSize();
+            this.minimumIdle = pool.getMinimumIdle();
+            this.acquire = new TimerSnapshot(acquire);
+            this.usage = new TimerSnapshot(usage);
+        }
+    }
+
+    @Getter
+    public static class TimerSnapshot {
+        private final long count;
+        private final double totalMillis;
+        private final double maxMillis;
+
+        TimerSnapshot(Timer timer) {
+            this.count = timer == null ? 0 : timer.count();
+            this.totalMillis = timer == null ? 0 : timer.totalTime(TimeUnit.MILLISECONDS);
+            this.maxMillis = timer == null ? 0 : timer.max(TimeUnit.MILLISECONDS);
+        }
+
+        public double getMeanMillis() {
+            return count == 0 ? 0 : totalMillis / count;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.springbootboard.config;
+
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// 애플리케이션이 쓰는 "dataSource" 빈을 datasource-proxy 로 한 번 감싸고 QueryExecutionListener 빈을 모두 붙인다
+// (SqlStatementCountConfig, SqlTimingConfig). 붙일 리스너가 없으면 감싸지 않는다
+// 라우팅(DataSourceRoutingConfig)을 켜도 가장 바깥 DataSource 하나만 감싸므로 중복으로 세지 않는다
+// 감싼 뒤에도 HikariDataSource 는 DataSource#unwrap 으로 꺼낼 수 있다 (ConnectionPools, hikaricp 메트릭)
+@Configuration
+public class DataSourceProxyConfig {
+
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    @Bean
+    public static BeanPostProcessor queryListeningDataSourcePostProcessor(ObjectProvider<QueryExecutionListener> listeners) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource) || !DATA_SOURCE_BEAN.equals(beanName)) {
+                    return bean;
+                }
+
+                List<QueryExecutionListener> registered = listeners.orderedStream().collect(Collectors.toList());
+                if (registered.isEmpty()) {
+                    return bean;
+                }
+
+                ProxyDataSourceBuilder builder = ProxyDataSourceBuilder.create((DataSource) bean).name(DATA_SOURCE_BEAN);
+                registered.forEach(builder::listener);
+                return builder.build();
+            }
+        };
+    }
+}
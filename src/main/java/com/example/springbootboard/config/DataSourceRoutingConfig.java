@@ -0,0 +1,81 @@
+package com.example.springbootboard.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+// board.datasource.replicas 가 있으면 spring.datasource 를 primary 로 두고 readOnly 트랜잭션을 replica 로 보낸다
+// replica 풀은 primary 풀 설정(spring.datasource.hikari.*)을 복사해 만든다
+@ConditionalOnProperty(prefix = "board.datasource", name = "replicas[0].url")
+@EnableConfigurationProperties(ReplicaDataSourceProperties.class)
+@Configuration
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public ReadWriteRoutingDataSource readWriteRoutingDataSource(HikariDataSource primaryDataSource, ReplicaDataSourceProperties properties) {
+        List<DataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < properties.getReplicas().size(); i++) {
+            replicas.add(replica(primaryDataSource, properties.getReplicas().get(i), i));
+        }
+
+        return new ReadWriteRoutingDataSource(primaryDataSource, replicas, properties.getSelection());
+    }
+
+    // JPA, JdbcTemplate 등은 이 DataSource 를 쓴다
+    @Primary
+    @Bean
+    public DataSource dataSource(ReadWriteRoutingDataSource readWriteRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(readWriteRoutingDataSource);
+    }
+
+    // read-your-writes 는 Duration 으로 받으므로 0, 0s, PT0S 모두 끈다
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(ReplicaDataSourceProperties properties) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration = new FilterRegistrationBean<>(new ReadYourWritesFilter(properties.getReadYourWrites()));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        registration.setEnabled(!properties.getReadYourWrites().isZero());
+        return registration;
+    }
+
+    private static HikariDataSource replica(HikariDataSource primary, ReplicaDataSourceProperties.Replica replica, int index) {
+        HikariDataSource dataSource = new HikariDataSource();
+        primary.copyStateTo(dataSource);
+        dataSource.setPoolName("replica-" + index);
+        dataSource.setJdbcUrl(replica.getUrl());
+        if (StringUtils.hasText(replica.getUsername())) {
+            dataSource.setUsername(replica.getUsername());
+        }
+        if (replica.getPassword() != null) {
+            dataSource.setPassword(replica.getPassword());
+        }
+        if (replica.getMaximumPoolSize() != null) {
+            dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+        }
+        // replica 로는 쓰지 않는다
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.springbootboard.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// 요청 경로별 시간은 스프링 부트가 http.server.requests 로 기록한다 (uri 태그가 매핑 템플릿)
+// 서비스 메서드는 @Timed(PostService) 로 board.post.service 에 class, method, exception 태그로 기록한다
+// 캐시 조회가 가장 바깥에서 실행되므로 findOne 은 캐시 미스만 기록된다
+// 두 타이머의 히스토그램 버킷은 management.metrics.distribution.percentiles-histogram 에서 켠다
+@Configuration
+public class MetricsConfig {
+
+    public static final String SERVICE_TIMER = "board.post.service";
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.springbootboard.config;
+
+import java.util.function.Supplier;
+
+// 캐시를 채우는 읽기를 primary 로 보낸다 (ReadWriteRoutingDataSource)
+// 쓰기 직후 캐시를 비우면 다음 읽기가 채우는데, 그 읽기가 아직 복제받지 못한 replica 로 가면 옛 값이 캐시 수명 내내 남는다
+// read-your-writes 쿠키는 쓴 클라이언트만 지키므로 캐시를 채우는 읽기는 따로 고정한다. replica 가 없으면 아무 일도 하지 않는다
+public final class PrimaryReads {
+
+    private static final ThreadLocal<Boolean> ACTIVE = new ThreadLocal<>();
+
+    private PrimaryReads() {
+    }
+
+    // 커넥션은 첫 SQL 에서 얻으므로(LazyConnectionDataSourceProxy) readOnly 트랜잭션 안에서 불러도 된다
+    public static <T> T call(Supplier<T> read) {
+        if (ACTIVE.get() != null) {
+            return read.get();
+        }
+
+        ACTIVE.set(Boolean.TRUE);
+        try {
+            return read.get();
+        } finally {
+            ACTIVE.remove();
+        }
+    }
+
+    static boolean isActive() {
+        return ACTIVE.get() != null;
+    }
+}
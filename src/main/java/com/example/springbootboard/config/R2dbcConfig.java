@@ -0,0 +1,49 @@
+package com.example.springbootboard.config;
+
+import io.r2dbc.h2.H2ConnectionConfiguration;
+import io.r2dbc.h2.H2ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+// 논블로킹 조회 경로(ReactivePostApiController)가 쓰는 R2DBC 연결
+// ConnectionFactory 를 빈으로 등록하면 DataSourceAutoConfiguration 이 물러나 JPA 가 뜨지 않으므로 DatabaseClient 안에만 둔다
+// 같은 이유로 R2dbcAutoConfiguration 은 끈다 (SpringBootBoardApplication 참고)
+@Configuration
+public class R2dbcConfig {
+
+    private static final String H2_JDBC_PREFIX = "jdbc:h2:";
+
+    // spring.r2dbc.url 이 없으면 spring.datasource.url 의 H2 데이터베이스를 그대로 연다 (같은 JVM 이면 같은 DB 를 본다)
+    @Bean
+    public DatabaseClient databaseClient(DataSourceProperties dataSourceProperties, Environment environment) {
+        return DatabaseClient.create(connectionFactory(dataSourceProperties, environment));
+    }
+
+    private static ConnectionFactory connectionFactory(DataSourceProperties dataSourceProperties, Environment environment) {
+        String r2dbcUrl = environment.getProperty("spring.r2dbc.url");
+        if (r2dbcUrl != null) {
+            return ConnectionFactories.get(r2dbcUrl);
+        }
+
+        String jdbcUrl = dataSourceProperties.determineUrl();
+        if (jdbcUrl == null || !jdbcUrl.startsWith(H2_JDBC_PREFIX)) {
+            throw new IllegalStateException("spring.r2dbc.url is required for non-H2 datasource. url = " + jdbcUrl);
+        }
+
+        H2ConnectionConfiguration.Builder configuration = H2ConnectionConfiguration.builder()
+                .url(jdbcUrl.substring(H2_JDBC_PREFIX.length()))
+                .username(dataSourceProperties.determineUsername());
+
+        String password = dataSourceProperties.determinePassword();
+        if (password != null && !password.isEmpty()) {
+            configuration.password(password);
+        }
+
+        return new H2ConnectionFactory(configuration.build());
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.springbootboard.config;
+
+import com.example.springbootboard.config.ReplicaDataSourceProperties.ReplicaSelection;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// readOnly 트랜잭션은 replica 로, 그 밖(쓰기 트랜잭션, 트랜잭션 밖, 캐시를 채우는 읽기)은 primary 로 보낸다
+// 커넥션을 얻는 시점에 키를 정하므로 LazyConnectionDataSourceProxy 로 감싸 첫 SQL 까지 미뤄야 readOnly 여부가 반영된다
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+
+    static final String PRIMARY = "primary";
+    private static final String REPLICA = "replica-";
+
+    private final List<DataSource> replicas;
+    private final ReplicaSelection selection;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReadWriteRoutingDataSource(DataSource primary, List<DataSource> replicas, ReplicaSelection selection) {
+        this.replicas = List.copyOf(replicas);
+        this.selection = selection;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            targets.put(REPLICA + i, replicas.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    // ConnectionPools 가 replica 풀을 계측할 때 쓴다
+    public List<DataSource> getReplicas() {
+        return replicas;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                TransactionSynchronizationManager.registerSynchronization(WriteCommitted.INSTANCE);
+            }
+            return PRIMARY;
+        }
+
+        if (replicas.isEmpty() || ReadYourWrites.isPinned() || PrimaryReads.isActive()) {
+            return PRIMARY;
+        }
+
+        return REPLICA + (selection == ReplicaSelection.LEAST_CONNECTIONS ? leastConnections() : roundRobin());
+    }
+
+    private int roundRobin() {
+        return Math.floorMod(next.getAndIncrement(), replicas.size());
+    }
+
+    // 같은 수면 round robin 순서에서 먼저 오는 replica 를 고른다 (한 곳에 몰리지 않도록)
+    private int leastConnections() {
+        int start = roundRobin();
+        int selected = start;
+        int fewest = Integer.MAX_VALUE;
+
+        for (int i = 0; i < replicas.size(); i++) {
+            int index = (start + i) % replicas.size();
+            int active = activeConnections(replicas.get(index));
+            if (active < fewest) {
+                fewest = active;
+                selected = index;
+            }
+        }
+        return selected;
+    }
+
+    private static int activeConnections(DataSource dataSource) {
+        if (dataSource instanceof HikariDataSource) {
+            HikariPoolMXBean pool = ((HikariDataSource) dataSource).getHikariPoolMXBean();
+            if (pool != null) {
+                return pool.getActiveConnections();
+            }
+        }
+        return 0;
+    }
+
+    // primary 는 빈으로 등록되어 컨테이너가 닫으므로 replica 만 닫는다
+    @Override
+    public void close() {
+        for (DataSource replica : replicas) {
+            if (replica instanceof Closeable) {
+                try {
+                    ((Closeable) replica).close();
+                } catch (Exception e) {
+                    logger.warn("failed to close replica datasource", e);
+                }
+            }
+        }
+    }
+
+    // 동기화 목록은 Set 이므로 한 트랜잭션에서 커넥션을 여러 번 얻어도 한 번만 실행된다
+    private enum WriteCommitted implements TransactionSynchronization {
+        INSTANCE;
+
+        @Override
+        public void afterCommit() {
+            ReadYourWrites.written();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.springbootboard.config;
+
+// 현재 스레드(요청)의 읽기를 primary 에 고정할지 정한다
+// ReadYourWritesFilter 가 요청마다 열고 닫으며, 열려 있지 않으면 아무 일도 하지 않는다
+final class ReadYourWrites {
+
+    private static final ThreadLocal<Session> CURRENT = new ThreadLocal<>();
+
+    private ReadYourWrites() {
+    }
+
+    static void open(boolean pinned, Runnable onWrite) {
+        CURRENT.set(new Session(pinned, onWrite));
+    }
+
+    static void close() {
+        CURRENT.remove();
+    }
+
+    static boolean isPinned() {
+        Session session = CURRENT.get();
+        return session != null && session.pinned;
+    }
+
+    // 쓰기 트랜잭션이 커밋된 뒤 호출된다. 같은 요청의 이후 읽기도 primary 로 간다
+    static void written() {
+        Session session = CURRENT.get();
+        if (session == null) {
+            return;
+        }
+        session.pinned = true;
+        if (!session.written) {
+            session.written = true;
+            session.onWrite.run();
+        }
+    }
+
+    private static class Session {
+        private boolean pinned;
+        private boolean written;
+        private final Runnable onWrite;
+
+        Session(boolean pinned, Runnable onWrite) {
+            this.pinned = pinned;
+            this.onWrite = onWrite;
+        }
+    }
+}
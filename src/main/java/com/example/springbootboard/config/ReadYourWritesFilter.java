@@ -0,0 +1,62 @@
+package com.example.springbootboard.config;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.WebUtils;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+
+// 쓰기가 커밋되면 응답에 마지막 쓰기 시각 쿠키를 붙이고, 그 쿠키가 window 안이면 이 요청의 읽기를 primary 로 보낸다
+// 서버에 상태를 두지 않으므로 인스턴스가 여러 대여도 동작한다
+class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    static final String COOKIE_NAME = "board-last-write";
+
+    private final Duration window;
+
+    ReadYourWritesFilter(Duration window) {
+        this.window = window;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        ReadYourWrites.open(isRecentWriter(request), () -> markWriter(response));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadYourWrites.close();
+        }
+    }
+
+    private boolean isRecentWriter(HttpServletRequest request) {
+        Cookie cookie = WebUtils.getCookie(request, COOKIE_NAME);
+        if (cookie == null) {
+            return false;
+        }
+        try {
+            return System.currentTimeMillis() - Long.parseLong(cookie.getValue()) < window.toMillis();
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    // 응답이 이미 커밋되었으면(스트리밍 응답 등) 붙이지 못한다
+    private void markWriter(HttpServletResponse response) {
+        if (response.isCommitted()) {
+            return;
+        }
+        response.addHeader(HttpHeaders.SET_COOKIE, ResponseCookie.from(COOKIE_NAME, String.valueOf(System.currentTimeMillis()))
+                .path("/")
+                .httpOnly(true)
+                .maxAge(Duration.ofSeconds(Math.max(1, (window.toMillis() + 999) / 1000)))
+                .build()
+                .toString());
+    }
+}
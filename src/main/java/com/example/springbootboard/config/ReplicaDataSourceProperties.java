@@ -0,0 +1,39 @@
+package com.example.springbootboard.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+// board.datasource.* . replicas 가 비어 있으면 라우팅 없이 spring.datasource 하나만 쓴다
+@Getter
+@Setter
+@ConfigurationProperties("board.datasource")
+public class ReplicaDataSourceProperties {
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    private ReplicaSelection selection = ReplicaSelection.ROUND_ROBIN;
+
+    // 쓰기 후 이 시간 동안 같은 클라이언트의 읽기를 primary 로 보낸다 (0 이면 끈다)
+    private Duration readYourWrites = Duration.ZERO;
+
+    @Getter
+    @Setter
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+        // 비어 있으면 spring.datasource.hikari.maximum-pool-size 를 따른다
+        private Integer maximumPoolSize;
+    }
+
+    public enum ReplicaSelection {
+        ROUND_ROBIN,
+        // 사용 중인 커넥션이 가장 적은 replica (Hikari 풀 기준)
+        LEAST_CONNECTIONS
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.springbootboard.config;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+// SQL 을 실행시킨 PostService 메서드 이름을 스레드에 남긴다 (SqlTimingListener 의 로그와 origin 태그)
+// 서비스 메서드가 다른 서비스 메서드를 거쳐 실행되면 가장 바깥 메서드를 남긴다
+// 커밋할 때 flush 되는 insert/update 도 잡도록 트랜잭션 인터셉터보다 바깥(캐시 인터셉터 안쪽)에 둔다
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@Aspect
+class SqlOrigin {
+
+    static final String NONE = "none";
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    static String current() {
+        String origin = CURRENT.get();
+        return origin == null ? NONE : origin;
+    }
+
+    @Around("execution(public * com.example.springbootboard.service.PostService.*(..))")
+    public Object track(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (CURRENT.get() != null) {
+            return joinPoint.proceed();
+        }
+
+        CURRENT.set(joinPoint.getSignature().getName());
+        try {
+            return joinPoint.proceed();
+        } finally {
+            CURRENT.remove();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.springbootboard.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+// "dataSource" 빈에서 실행한 SQL 을 스레드마다 센다 (SqlStatementCounter). 감싸는 일은 DataSourceProxyConfig 가 한다
+@ConditionalOnProperty(name = "board.sql.statement-count.enabled", havingValue = "true", matchIfMissing = true)
+@Configuration
+public class SqlStatementCountConfig {
+
+    @Bean
+    public QueryExecutionListener sqlStatementCountListener() {
+        return new SqlStatementCounter.Listener();
+    }
+
+    @ConditionalOnExpression("${board.sql.statement-count.threshold:0} > 0")
+    @Bean
+    public FilterRegistrationBean<SqlStatementCountFilter> sqlStatementCountFilter(@Value("${board.sql.statement-count.threshold}") int threshold,
+                                                                                   @Value("${board.sql.statement-count.action:log}") String action,
+                                                                                   MeterRegistry meterRegistry) {
+        FilterRegistrationBean<SqlStatementCountFilter> registration = new FilterRegistrationBean<>(
+                new SqlStatementCountFilter(threshold, !"count".equalsIgnoreCase(action), meterRegistry));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+}
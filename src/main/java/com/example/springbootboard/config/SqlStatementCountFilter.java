@@ -0,0 +1,54 @@
+package com.example.springbootboard.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+// 한 요청이 실행한 SQL 수가 threshold 를 넘으면 WARN 로그를 남기거나 board.sql.statement.threshold.exceeded 를 올린다 (N+1 탐지)
+// 요청 스레드에서 실행한 SQL 만 센다 (비동기 응답의 다른 스레드는 제외)
+@Slf4j
+class SqlStatementCountFilter extends OncePerRequestFilter {
+
+    static final String EXCEEDED_COUNTER = "board.sql.statement.threshold.exceeded";
+
+    private final int threshold;
+    private final boolean logging;
+    private final MeterRegistry meterRegistry;
+
+    SqlStatementCountFilter(int threshold, boolean logging, MeterRegistry meterRegistry) {
+        this.threshold = threshold;
+        this.logging = logging;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        SqlStatementCounter.reset();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlStatementCounter.Counts counts = SqlStatementCounter.current();
+            if (counts.getTotal() > threshold) {
+                exceeded(request, counts);
+            }
+        }
+    }
+
+    private void exceeded(HttpServletRequest request, SqlStatementCounter.Counts counts) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+
+        if (logging) {
+            log.warn("{} {} executed {} statements (threshold {}): {}", request.getMethod(), request.getRequestURI(), counts.getTotal(), threshold, counts);
+        } else {
+            meterRegistry.counter(EXCEEDED_COUNTER, "method", request.getMethod(), "uri", uri).increment();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.springbootboard.config;
+
+import lombok.Getter;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryUtils;
+
+import java.util.List;
+
+// 현재 스레드가 실행한 SQL 을 종류별로 센다. 요청 단위로 보려면 시작할 때 reset 한다
+// (SqlStatementCountFilter, 테스트에서는 mockMvc.perform 앞뒤로 reset/current)
+// JDBC 실행 한 번(배치 executeBatch 포함)을 한 건으로 센다
+public final class SqlStatementCounter {
+
+    private static final ThreadLocal<Counts> COUNTS = ThreadLocal.withInitial(Counts::new);
+
+    private SqlStatementCounter() {
+    }
+
+    public static void reset() {
+        COUNTS.get().clear();
+    }
+
+    // 지금까지의 값을 복사해 돌려준다
+    public static Counts current() {
+        return COUNTS.get().copy();
+    }
+
+    @Getter
+    public static class Counts {
+        private long select;
+        private long insert;
+        private long update;
+        private long delete;
+        private long other;
+
+        public long getTotal() {
+            return select + insert + update + delete + other;
+        }
+
+        private void add(String query) {
+            switch (QueryUtils.getQueryType(query)) {
+                case SELECT:
+                    select++;
+                    break;
+                case INSERT:
+                    insert++;
+                    break;
+                case UPDATE:
+                    update++;
+                    break;
+                case DELETE:
+                    delete++;
+                    break;
+                default:
+                    other++;
+            }
+        }
+
+        private void clear() {
+            select = insert = update = delete = other = 0;
+        }
+
+        private Counts copy() {
+            Counts copy = new Counts();
+            copy.select = select;
+            copy.insert = insert;
+            copy.update = update;
+            copy.delete = delete;
+            copy.other = other;
+            return copy;
+        }
+
+        @Override
+        public String toString() {
+            return "select=" + select + ", insert=" + insert + ", update=" + update + ", delete=" + delete + ", other=" + other;
+        }
+    }
+
+    static class Listener implements QueryExecutionListener {
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            Counts counts = COUNTS.get();
+            for (QueryInfo queryInfo : queryInfoList) {
+                counts.add(queryInfo.getQuery());
+            }
+        }
+    }
+}
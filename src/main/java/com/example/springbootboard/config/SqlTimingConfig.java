@@ -0,0 +1,29 @@
+package com.example.springbootboard.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+// show-sql 대신 SQL 실행 시간을 타이머로 기록하고 느린 실행/표본만 로그로 남긴다 (SqlTimingListener)
+// 타이머의 히스토그램 버킷은 management.metrics.distribution.percentiles-histogram 에서 켠다
+@ConditionalOnProperty(name = "board.sql.timing.enabled", havingValue = "true", matchIfMissing = true)
+@Configuration
+public class SqlTimingConfig {
+
+    @Bean
+    public SqlOrigin sqlOrigin() {
+        return new SqlOrigin();
+    }
+
+    @Bean
+    public QueryExecutionListener sqlTimingListener(MeterRegistry meterRegistry,
+                                                    @Value("${board.sql.timing.slow-threshold:200ms}") Duration slowThreshold,
+                                                    @Value("${board.sql.timing.sample-rate:0}") double sampleRate) {
+        return new SqlTimingListener(meterRegistry, slowThreshold.toNanos(), sampleRate);
+    }
+}
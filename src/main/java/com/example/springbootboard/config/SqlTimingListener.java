@@ -0,0 +1,72 @@
+package com.example.springbootboard.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryUtils;
+import net.ttddyy.dsproxy.listener.logging.DefaultQueryLogEntryCreator;
+import net.ttddyy.dsproxy.listener.logging.QueryLogEntryCreator;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// 모든 SQL 실행 시간을 board.sql.statement 타이머(type, origin 태그)에 기록한다
+// 로그는 slow-threshold 이상 걸린 실행(WARN)과 sample-rate 확률로 뽑힌 실행(INFO)만 바인드 파라미터와 함께 남긴다
+@Slf4j
+class SqlTimingListener implements QueryExecutionListener {
+
+    static final String TIMER = "board.sql.statement";
+
+    private static final String STARTED = SqlTimingListener.class.getName() + ".started";
+
+    private final MeterRegistry meterRegistry;
+    private final long slowThresholdNanos;
+    private final double sampleRate;
+    private final QueryLogEntryCreator logEntryCreator = new DefaultQueryLogEntryCreator();
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    SqlTimingListener(MeterRegistry meterRegistry, long slowThresholdNanos, double sampleRate) {
+        this.meterRegistry = meterRegistry;
+        this.slowThresholdNanos = slowThresholdNanos;
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        execInfo.addCustomValue(STARTED, System.nanoTime());
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Long started = execInfo.getCustomValue(STARTED, Long.class);
+        long elapsedNanos = started == null
+                ? TimeUnit.MILLISECONDS.toNanos(execInfo.getElapsedTime())
+                : System.nanoTime() - started;
+
+        String origin = SqlOrigin.current();
+        String type = queryInfoList.isEmpty()
+                ? "other"
+                : QueryUtils.getQueryType(queryInfoList.get(0).getQuery()).name().toLowerCase(Locale.ROOT);
+
+        timers.computeIfAbsent(type + "|" + origin, key -> Timer.builder(TIMER)
+                        .tag("type", type)
+                        .tag("origin", origin)
+                        .register(meterRegistry))
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        if (slowThresholdNanos > 0 && elapsedNanos >= slowThresholdNanos) {
+            log.warn("slow query. origin = {}, elapsed = {}ms, {}",
+                    origin, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), logEntryCreator.getLogEntry(execInfo, queryInfoList, false, false));
+        } else if (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate && log.isInfoEnabled()) {
+            log.info("sampled query. origin = {}, elapsed = {}ms, {}",
+                    origin, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), logEntryCreator.getLogEntry(execInfo, queryInfoList, false, false));
+        }
+    }
+}
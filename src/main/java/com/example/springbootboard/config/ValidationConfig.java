@@ -0,0 +1,22 @@
+package com.example.springbootboard.config;
+
+import com.example.springbootboard.validation.RequestValidator;
+import com.example.springbootboard.validation.RequestValidatorAdapter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.Validator;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@RequiredArgsConstructor
+@Configuration
+public class ValidationConfig implements WebMvcConfigurer {
+
+    private final RequestValidator requestValidator;
+    private final LocalValidatorFactoryBean defaultValidator;
+
+    @Override
+    public Validator getValidator() {
+        return new RequestValidatorAdapter(requestValidator, defaultValidator);
+    }
+}
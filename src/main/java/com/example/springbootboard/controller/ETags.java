@@ -0,0 +1,50 @@
+package com.example.springbootboard.controller;
+
+import com.example.springbootboard.dto.PagePostDto;
+import com.example.springbootboard.dto.response.PostDto;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+// 조건부 GET(If-None-Match, If-Modified-Since)에 쓰는 검증자
+// 조회 수(viewCount)도 반영해 flush 된 조회 수가 응답에 실리면 검증자도 바뀐다
+final class ETags {
+
+    private ETags() {
+    }
+
+    // 같은 조회 수면 serverDateTime 만 다른 본문도 같은 표현으로 보므로 약한 검증자다
+    static String of(PostDto post) {
+        return "W/\"" + post.getPostId() + "-" + post.getVersion() + "-" + post.getViewCount() + "\"";
+    }
+
+    // 목록은 페이지 정보와 각 게시물의 (id, version, viewCount)로 만든다
+    static String of(PagePostDto page) {
+        StringBuilder source = new StringBuilder()
+                .append(page.getPage()).append('|')
+                .append(page.getSize()).append('|')
+                .append(page.isFirst()).append('|')
+                .append(page.isLast()).append('|')
+                .append(page.getTotalElements()).append('|')
+                .append(page.getTotalPages()).append('|')
+                .append(page.getNextCursor()).append('|')
+                .append(page.getPrevCursor());
+
+        for (PostDto post : page.getPosts()) {
+            source.append('|').append(post.getPostId()).append(':').append(post.getVersion()).append(':').append(post.getViewCount());
+        }
+
+        return "\"" + DigestUtils.md5DigestAsHex(source.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    // 조회 수만 바뀌면 modifiedAt 은 그대로이므로 마지막 flush 시각(viewsFlushedAt)과 큰 쪽을 쓴다
+    static long lastModified(PostDto post) {
+        LocalDateTime lastModified = post.getModifiedAt();
+        if (post.getViewsFlushedAt() != null && post.getViewsFlushedAt().isAfter(lastModified)) {
+            lastModified = post.getViewsFlushedAt();
+        }
+        return lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
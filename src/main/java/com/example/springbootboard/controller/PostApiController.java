@@ -1,20 +1,37 @@
 package com.example.springbootboard.controller;
 
 import com.example.springbootboard.dto.*;
+import com.example.springbootboard.dto.request.ExportFormat;
 import com.example.springbootboard.dto.request.RequestCreatePost;
+import com.example.springbootboard.dto.request.RequestCreatePostBatch;
+import com.example.springbootboard.dto.request.RequestDeletePosts;
 import com.example.springbootboard.dto.request.RequestPagePost;
+import com.example.springbootboard.dto.request.RequestPatchPost;
+import com.example.springbootboard.dto.request.RequestSearchPost;
 import com.example.springbootboard.dto.request.RequestUpdatePost;
+import com.example.springbootboard.dto.response.PostBatchResultDto;
+import com.example.springbootboard.dto.response.PostDeleteResultDto;
 import com.example.springbootboard.dto.response.PostDto;
+import com.example.springbootboard.dto.response.PostImportResultDto;
+import com.example.springbootboard.service.PostImporter;
 import com.example.springbootboard.service.PostService;
+import com.example.springbootboard.service.PostViewCounter;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import javax.validation.Valid;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
+import java.util.List;
 
 @RequiredArgsConstructor
 @RequestMapping(value = "/api/v1/posts", produces = MediaType.APPLICATION_JSON_VALUE+";charset=UTF-8")
@@ -22,6 +39,10 @@ import java.net.URI;
 public class PostApiController {
 
     private final PostService postService;
+    private final PostImporter postImporter;
+    private final ObjectMapper objectMapper;
+    private final ResponseBodyCache responseBodyCache;
+    private final PostViewCounter postViewCounter;
 
     @PostMapping
     public ResponseEntity<Long> save(@Valid @RequestBody final RequestCreatePost request) {
@@ -29,28 +50,98 @@ public class PostApiController {
         return ResponseEntity.created(URI.create("/posts/" + postId)).build();
     }
 
-    @GetMapping("/{postId}")
-    public ResponseEntity<ResponseDto> getOne(@PathVariable("postId") final Long postId) {
-        PostDto post = postService.findOne(postId);
+    @PostMapping("/batch")
+    public ResponseEntity<ResponseDto> saveAll(@Valid @RequestBody final RequestCreatePostBatch request) {
+        List<PostBatchResultDto> results = postService.saveAll(request.getPosts());
 
         return ResponseEntity.ok()
                 .body(ResponseDto.builder()
-                        .data(post)
+                        .data(results)
                         .status(HttpStatus.OK)
                         .build());
     }
 
+    // 본문을 한 번에 읽지 않고 줄 단위로 흘려 보내며 저장한다
+    @PostMapping(value = "/import", consumes = "application/x-ndjson")
+    public ResponseEntity<ResponseDto> importAll(final InputStream body) throws IOException {
+        PostImportResultDto result = postImporter.importFrom(body);
+
+        return ResponseEntity.ok()
+                .body(ResponseDto.builder()
+                        .data(result)
+                        .status(HttpStatus.OK)
+                        .build());
+    }
+
+    // 인코딩한 응답 바이트를 ResponseBodyCache 에 두고, 검증자가 일치하면 본문 없이 304 를 응답한다
+    @GetMapping("/{postId}")
+    public ResponseEntity<byte[]> getOne(@PathVariable("postId") final Long postId,
+                                         @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) final String acceptEncoding) {
+        ResponseEntity<byte[]> response = responseBodyCache.get(ResponseBodyCache.postKey(postId), acceptEncoding, () -> {
+            PostDto post = postService.findOne(postId);
+
+            return ResponseEntity.ok()
+                    .eTag(ETags.of(post))
+                    .lastModified(ETags.lastModified(post))
+                    .body(ResponseDto.builder()
+                            .data(post)
+                            .status(HttpStatus.OK)
+                            .build());
+        });
+
+        // 없는 게시물(404)은 세지 않는다. 304 로 끝나는 재검증도 조회로 센다
+        postViewCounter.increment(postId);
+        return response;
+    }
+
+    // 첫 페이지만 캐시한다
     @GetMapping
-    public ResponseEntity<ResponseDto> getAll(final RequestPagePost pageable) {
-        PagePostDto posts = postService.findAll(pageable.of());
+    public ResponseEntity<byte[]> getAll(final RequestPagePost pageable,
+                                         @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) final String acceptEncoding) {
+        return responseBodyCache.get(ResponseBodyCache.firstPageKey(pageable), acceptEncoding, () -> {
+            PagePostDto posts = postService.findAll(pageable);
+
+            return ResponseEntity.ok()
+                    .eTag(ETags.of(posts))
+                    .body(ResponseDto.builder()
+                            .data(posts)
+                            .status(HttpStatus.OK)
+                            .build());
+        });
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<ResponseDto> search(@Valid final RequestSearchPost request) {
+        PagePostDto posts = postService.search(request);
 
         return ResponseEntity.ok()
+                .eTag(ETags.of(posts))
                 .body(ResponseDto.builder()
                         .data(posts)
                         .status(HttpStatus.OK)
                         .build());
     }
 
+    // 페이지 단위로 나누지 않고 DB 커서에서 읽는 대로 응답에 쓴다
+    @GetMapping(value = "/export", produces = {"application/x-ndjson", "text/csv"})
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(value = "format", required = false) final String format) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+
+        StreamingResponseBody body = out -> {
+            PostExportWriter writer = PostExportWriter.of(exportFormat, out, objectMapper);
+            postService.exportAll(writer);
+            writer.finish();
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("posts." + exportFormat.getExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
     @PutMapping("/{postId}")
     public ResponseEntity<Void> update(@PathVariable("postId") final Long postId, @Valid @RequestBody final RequestUpdatePost request) {
         postService.update(postId, request);
@@ -59,6 +150,15 @@ public class PostApiController {
                 .build();
     }
 
+    // 보낸 필드(title, content)만 바꾼다
+    @PatchMapping("/{postId}")
+    public ResponseEntity<Void> patch(@PathVariable("postId") final Long postId, @Valid @RequestBody final RequestPatchPost request) {
+        postService.patch(postId, request);
+        return ResponseEntity.ok()
+                .location(URI.create("/posts/" + postId))
+                .build();
+    }
+
     @DeleteMapping("/{postId}")
     public ResponseEntity<Void> delete(@PathVariable("postId") final Long postId) {
         postService.delete(postId);
@@ -66,4 +166,16 @@ public class PostApiController {
                 .location(URI.create("/posts"))
                 .build();
     }
+
+    // id 목록 또는 한 사용자의 게시물 전부를 묶음 단위로 지운다
+    @PostMapping("/bulk-delete")
+    public ResponseEntity<ResponseDto> deleteAll(@Valid @RequestBody final RequestDeletePosts request) {
+        PostDeleteResultDto result = postService.deleteAll(request);
+
+        return ResponseEntity.ok()
+                .body(ResponseDto.builder()
+                        .data(result)
+                        .status(HttpStatus.OK)
+                        .build());
+    }
 }
@@ -0,0 +1,116 @@
+package com.example.springbootboard.controller;
+
+import com.example.springbootboard.dto.request.ExportFormat;
+import com.example.springbootboard.dto.response.PostDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+// 게시물을 한 건씩 응답 스트림에 쓴다. 쓰고 난 게시물은 참조하지 않는다
+abstract class PostExportWriter implements Consumer<PostDto> {
+
+    static PostExportWriter of(ExportFormat format, OutputStream out, ObjectMapper objectMapper) throws IOException {
+        switch (format) {
+            case CSV:
+                return new Csv(out);
+            default:
+                return new NdJson(out, objectMapper);
+        }
+    }
+
+    @Override
+    public void accept(PostDto post) {
+        try {
+            write(post);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    abstract void write(PostDto post) throws IOException;
+
+    abstract void finish() throws IOException;
+
+    private static class NdJson extends PostExportWriter {
+        private final SequenceWriter writer;
+
+        NdJson(OutputStream out, ObjectMapper objectMapper) throws IOException {
+            this.writer = objectMapper.writerFor(PostDto.class)
+                    .withRootValueSeparator("\n")
+                    .writeValues(out);
+        }
+
+        @Override
+        void write(PostDto post) throws IOException {
+            writer.write(post);
+        }
+
+        @Override
+        void finish() throws IOException {
+            writer.flush();
+        }
+    }
+
+    private static class Csv extends PostExportWriter {
+        private static final String HEADER = "postId,title,content,createdAt,createdBy,modifiedAt\r\n";
+
+        private final Writer writer;
+
+        Csv(OutputStream out) throws IOException {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            writer.write(HEADER);
+        }
+
+        @Override
+        void write(PostDto post) throws IOException {
+            writer.write(String.valueOf(post.getPostId()));
+            writer.write(',');
+            writeQuoted(post.getTitle());
+            writer.write(',');
+            writeQuoted(post.getContent());
+            writer.write(',');
+            writeTime(post.getCreatedAt());
+            writer.write(',');
+            writeQuoted(post.getCreatedBy());
+            writer.write(',');
+            writeTime(post.getModifiedAt());
+            writer.write("\r\n");
+        }
+
+        @Override
+        void finish() throws IOException {
+            writer.flush();
+        }
+
+        private void writeTime(LocalDateTime time) throws IOException {
+            if (time != null) {
+                writer.write(time.toString());
+            }
+        }
+
+        // 쉼표/따옴표/줄바꿈이 있으면 따옴표로 감싸고 따옴표는 두 번 쓴다
+        private void writeQuoted(String value) throws IOException {
+            if (value == null) {
+                return;
+            }
+
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                writer.write(value);
+                return;
+            }
+
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.springbootboard.controller;
+
+import com.example.springbootboard.dto.ResponseDto;
+import com.example.springbootboard.dto.request.RequestPagePost;
+import com.example.springbootboard.dto.response.PostDto;
+import com.example.springbootboard.service.ReactivePostService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// PostApiController.getOne/getAll 의 논블로킹 버전. getAll 은 page 모드의 전체 보기만 지원하고 cursor, mode, view 는 400 으로 거절한다
+// Mono/Flux 를 돌려주면 요청 스레드는 바로 반환되고, 결과가 나오면 비동기 디스패치로 응답을 쓴다
+@RequiredArgsConstructor
+@RequestMapping(value = "/api/v1/reactive/posts", produces = MediaType.APPLICATION_JSON_VALUE+";charset=UTF-8")
+@RestController
+public class ReactivePostApiController {
+
+    private final ReactivePostService reactivePostService;
+
+    @GetMapping("/{postId}")
+    public Mono<ResponseEntity<ResponseDto>> getOne(@PathVariable("postId") final Long postId) {
+        return reactivePostService.findOne(postId)
+                .map(post -> ResponseEntity.ok()
+                        .eTag(ETags.of(post))
+                        .lastModified(ETags.lastModified(post))
+                        .body(ResponseDto.builder()
+                                .data(post)
+                                .status(HttpStatus.OK)
+                                .build()));
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<ResponseDto>> getAll(final RequestPagePost pageable) {
+        return reactivePostService.findAll(pageable)
+                .map(posts -> ResponseEntity.ok()
+                        .eTag(ETags.of(posts))
+                        .body(ResponseDto.builder()
+                                .data(posts)
+                                .status(HttpStatus.OK)
+                                .build()));
+    }
+
+    // 스트리밍 타입이면 한 건씩 요청(request(1))해 쓰므로, 클라이언트가 느리면 DB 읽기도 늦춰진다
+    @GetMapping(value = "/stream", produces = "application/x-ndjson")
+    public Flux<PostDto> stream() {
+        return reactivePostService.streamAll();
+    }
+}
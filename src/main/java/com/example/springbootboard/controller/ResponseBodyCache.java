@@ -0,0 +1,211 @@
+package com.example.springbootboard.controller;
+
+import com.example.springbootboard.config.PrimaryReads;
+import com.example.springbootboard.dto.ResponseDto;
+import com.example.springbootboard.dto.request.PageMode;
+import com.example.springbootboard.dto.request.RequestPagePost;
+import com.example.springbootboard.service.PostChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+// getOne, 첫 페이지 getAll 의 최종 응답 바이트(원본 JSON, gzip)를 보관한다
+// 적중하면 직렬화/압축 없이 byte[] 를 그대로 응답에 복사한다 (ByteArrayHttpMessageConverter)
+// PostService 의 쓰기가 커밋되면 PostChangedEvent 로 무효화한다. 본문의 serverDateTime 은 응답을 처음 만든 시각이다
+@Component
+class ResponseBodyCache {
+
+    private static final String POST_KEY = "post:";
+    private static final String PAGE_KEY = "page:";
+    private static final String GZIP = "gzip";
+    private static final MediaType JSON_UTF8 = MediaType.parseMediaType(MediaType.APPLICATION_JSON_VALUE + ";charset=UTF-8");
+
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final int compressMinSize;
+    private final Cache<String, EncodedBody> cache;
+    // 무효화할 때마다 올린다. 조회하는 동안 바뀌었으면 이전 값을 읽었을 수 있으므로 캐시에 남기지 않는다
+    private final AtomicLong generation = new AtomicLong();
+
+    ResponseBodyCache(ObjectMapper objectMapper,
+                      MeterRegistry meterRegistry,
+                      @Value("${board.response-cache.enabled:true}") boolean enabled,
+                      @Value("${board.response-cache.max-bytes:67108864}") long maxBytes,
+                      @Value("${board.response-cache.expire-after-write:10m}") Duration expireAfterWrite,
+                      @Value("${board.response-cache.compress-min-size:256}") int compressMinSize) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.compressMinSize = compressMinSize;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((String key, EncodedBody body) -> body.size())
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "response");
+    }
+
+    static String postKey(Long postId) {
+        return POST_KEY + postId;
+    }
+
+    // 커서, summary, SLICE/ESTIMATE 조회와 두 번째 이후 페이지는 캐시하지 않는다 (null)
+    static String firstPageKey(RequestPagePost request) {
+        if (request.getPage() != 1 || request.isCursorMode() || request.isSummaryView() || request.mode() != PageMode.PAGE) {
+            return null;
+        }
+        return PAGE_KEY + request.getSize() + ":" + String.valueOf(request.getDirection()).toUpperCase(Locale.ROOT);
+    }
+
+    // loader 가 만든 응답의 본문은 직렬화하고 헤더(ETag)는 그대로 보관한다
+    // 캐시에 넣을 응답은 replica 지연으로 옛 값을 담지 않도록 primary 에서 읽는다
+    ResponseEntity<byte[]> get(String key, String acceptEncoding, Supplier<ResponseEntity<ResponseDto>> loader) {
+        if (!enabled || key == null) {
+            return encode(loader.get(), false).toResponseEntity(acceptEncoding);
+        }
+
+        EncodedBody cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached.toResponseEntity(acceptEncoding);
+        }
+
+        long started = generation.get();
+        EncodedBody encoded = encode(PrimaryReads.call(loader), true);
+        cache.put(key, encoded);
+
+        // 넣기 전후로 무효화가 끼어들었으면 지운다. 이후의 무효화는 방금 넣은 값을 지운다
+        if (generation.get() != started) {
+            cache.invalidate(key);
+        }
+
+        return encoded.toResponseEntity(acceptEncoding);
+    }
+
+    @EventListener
+    public void onPostChanged(PostChangedEvent event) {
+        generation.incrementAndGet();
+        event.getPostIds().forEach(postId -> cache.invalidate(postKey(postId)));
+        cache.asMap().keySet().removeIf(key -> key.startsWith(PAGE_KEY));
+    }
+
+    private EncodedBody encode(ResponseEntity<ResponseDto> response, boolean compress) {
+        byte[] identity;
+        try {
+            identity = objectMapper.writeValueAsBytes(response.getBody());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize response", e);
+        }
+
+        byte[] gzip = compress && identity.length >= compressMinSize ? gzip(identity) : null;
+        if (gzip != null && gzip.length >= identity.length) {
+            gzip = null;
+        }
+
+        return new EncodedBody(response.getStatusCode(), response.getHeaders(), identity, gzip);
+    }
+
+    private static byte[] gzip(byte[] source) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(source.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(source);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    // q=0 으로 거부하지 않았으면 gzip 을 받는 것으로 본다
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim();
+            if (name.equalsIgnoreCase(GZIP) || name.equals("*")) {
+                return !isZeroQuality(parts);
+            }
+        }
+        return false;
+    }
+
+    private static boolean isZeroQuality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2)) == 0;
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+
+    // 한 응답의 인코딩별 본문. 인코딩이 다르면 다른 표현이므로 gzip 쪽 ETag 에는 접미사를 붙인다
+    private static class EncodedBody {
+        private final HttpStatus status;
+        private final HttpHeaders headers;
+        private final HttpHeaders gzipHeaders;
+        private final byte[] identity;
+        private final byte[] gzip;
+
+        EncodedBody(HttpStatus status, HttpHeaders source, byte[] identity, byte[] gzip) {
+            this.status = status;
+            this.identity = identity;
+            this.gzip = gzip;
+            this.headers = headers(source, null);
+            this.gzipHeaders = gzip == null ? null : headers(source, GZIP);
+        }
+
+        private static HttpHeaders headers(HttpHeaders source, String contentEncoding) {
+            HttpHeaders headers = new HttpHeaders();
+            headers.putAll(source);
+            headers.setContentType(JSON_UTF8);
+            headers.setVary(List.of(HttpHeaders.ACCEPT_ENCODING));
+
+            if (contentEncoding != null) {
+                headers.set(HttpHeaders.CONTENT_ENCODING, contentEncoding);
+                String eTag = source.getETag();
+                if (eTag != null && eTag.endsWith("\"")) {
+                    headers.setETag(eTag.substring(0, eTag.length() - 1) + "-" + contentEncoding + "\"");
+                }
+            }
+            return HttpHeaders.readOnlyHttpHeaders(headers);
+        }
+
+        int size() {
+            return identity.length + (gzip == null ? 0 : gzip.length);
+        }
+
+        ResponseEntity<byte[]> toResponseEntity(String acceptEncoding) {
+            if (gzip != null && acceptsGzip(acceptEncoding)) {
+                return new ResponseEntity<>(gzip, gzipHeaders, status);
+            }
+            return new ResponseEntity<>(identity, headers, status);
+        }
+    }
+}
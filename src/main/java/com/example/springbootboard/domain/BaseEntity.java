@@ -6,7 +6,9 @@ import lombok.NoArgsConstructor;
 import org.springframework.util.Assert;
 
 import javax.persistence.MappedSuperclass;
+import javax.persistence.PreUpdate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -15,6 +17,7 @@ public class BaseEntity {
 
     private String createdBy;
     private LocalDateTime createdAt;
+    private LocalDateTime modifiedAt;
 
     public BaseEntity(String createdBy, LocalDateTime createdAt) {
 
@@ -23,6 +26,13 @@ public class BaseEntity {
         Assert.notNull(createdAt, "CreatedAt should not be null");
 
         this.createdBy = createdBy;
-        this.createdAt = createdAt;
+        // DB timestamp 정밀도(micro)에 맞춰 두어야 영속성 컨텍스트 값과 DB 값으로 만든 커서가 일치한다
+        this.createdAt = createdAt.truncatedTo(ChronoUnit.MICROS);
+        this.modifiedAt = this.createdAt;
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        this.modifiedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
     }
 }
@@ -1,9 +1,11 @@
 package com.example.springbootboard.domain;
 
+import com.example.springbootboard.domain.id.SnowflakeIdentifierGenerator;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
 import org.springframework.util.Assert;
 
 import javax.persistence.*;
@@ -12,11 +14,13 @@ import java.time.LocalDateTime;
 
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
-@Table(name = "post")
+@Table(name = "post", indexes = @Index(name = "idx_post_created_at", columnList = "createdAt, post_id"))
 @Entity
 public class Post extends BaseEntity {
 
-    @Id @GeneratedValue
+    @Id
+    @GeneratedValue(generator = "snowflake")
+    @GenericGenerator(name = "snowflake", strategy = SnowflakeIdentifierGenerator.STRATEGY)
     @Column(name = "post_id")
     private Long id;
 
@@ -27,6 +31,18 @@ public class Post extends BaseEntity {
     @Column(name = "content", nullable = false)
     private String content;
 
+    // ETag 로 사용한다
+    @Version
+    private Long version;
+
+    // PostViewCounter 가 update 문으로만 더한다. 엔티티 수정(dirty checking)이 덮어쓰지 않도록 update 에서 뺀다
+    @Column(name = "view_count", nullable = false, updatable = false)
+    private long viewCount;
+
+    // PostViewCounter 가 view_count 와 함께 바꾼다. modifiedAt 과 함께 Last-Modified 를 만든다 (flush 전이면 null)
+    @Column(name = "views_flushed_at", updatable = false)
+    private LocalDateTime viewsFlushedAt;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", referencedColumnName = "user_id")
     private User user;
@@ -39,9 +55,16 @@ public class Post extends BaseEntity {
     }
 
     public static Post createPost(Title title, String content, User user) {
+        validUser(user);
+
+        return createPost(title, content, user, user.getName());
+    }
+
+    // user 가 프록시여도 초기화(select)하지 않도록 작성자 이름을 따로 받는다
+    public static Post createPost(Title title, String content, User user, String createdBy) {
         validate(title, content, user);
 
-        Post post = new Post(user.getName(), LocalDateTime.now(), title, content, user);
+        Post post = new Post(createdBy, LocalDateTime.now(), title, content, user);
 
         post.setUser(user);
 
@@ -62,6 +85,16 @@ public class Post extends BaseEntity {
         this.content = content;
     }
 
+    // 엔티티를 읽지 않고 부분 수정할 때, 값이 있는 필드만 update 와 같은 규칙으로 검증한다. null 은 바꾸지 않는 필드다
+    public static void validatePatch(Title title, String content) {
+        if (title != null) {
+            validTitle(title);
+        }
+        if (content != null) {
+            validContent(content);
+        }
+    }
+
     private static void validate(Title title, String content, User user) {
         validTitle(title);
         validContent(content);
@@ -72,8 +105,13 @@ public class Post extends BaseEntity {
         Assert.notNull(user, "User should not be null");
     }
 
+    // 요청의 @NotBlank 와 같은 기준 (trim 후 길이 0)
     private static void validContent(String content) {
         Assert.notNull(content, "Content should not be null");
+
+        if (content.trim().isEmpty()) {
+            throw new IllegalArgumentException("Post content should not be blank");
+        }
     }
 
     private static void validTitle(Title title) {
@@ -1,9 +1,11 @@
 package com.example.springbootboard.domain;
 
+import com.example.springbootboard.domain.id.SnowflakeIdentifierGenerator;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
 import org.springframework.util.Assert;
 
 import javax.persistence.*;
@@ -14,11 +16,13 @@ import java.util.regex.Pattern;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "user")
+@Table(name = "user", uniqueConstraints = @UniqueConstraint(name = "uk_user_name", columnNames = "name"))
 @Entity
 public class User extends BaseEntity{
 
-    @Id @GeneratedValue
+    @Id
+    @GeneratedValue(generator = "snowflake")
+    @GenericGenerator(name = "snowflake", strategy = SnowflakeIdentifierGenerator.STRATEGY)
     @Column(name = "user_id")
     private Long id;
 
@@ -32,7 +36,8 @@ public class User extends BaseEntity{
     @Enumerated(EnumType.STRING)
     private Hobby hobby;
 
-    private static final String nameRegex = "^[가-힣a-zA-Z0-9_]{1,30}$";
+    // 요청마다 컴파일하지 않도록 한 번만 만든다
+    private static final Pattern NAME_PATTERN = Pattern.compile("^[가-힣a-zA-Z0-9_]{1,30}$");
 
     @Builder
     public User(String name, Integer age, Hobby hobby, String createdBy, LocalDateTime createdAt) {
@@ -69,7 +74,7 @@ public class User extends BaseEntity{
 
         Assert.notNull(name, "User name should not be null");
 
-        if (!Pattern.matches(nameRegex, name)) {
+        if (!NAME_PATTERN.matcher(name).matches()) {
             throw new IllegalArgumentException(MessageFormat.format("Invalid User name. name = {0}", name));
         }
     }
@@ -0,0 +1,6 @@
+package com.example.springbootboard.domain.id;
+
+public interface IdGenerator {
+
+    long nextId();
+}
@@ -0,0 +1,90 @@
+package com.example.springbootboard.domain.id;
+
+import java.text.MessageFormat;
+import java.time.Clock;
+import java.time.Instant;
+
+// | 1bit 부호 | 41bit 타임스탬프(ms, EPOCH 기준) | 10bit 노드 | 12bit 시퀀스 |
+// DB 왕복 없이 메모리에서 발급하며, 노드가 다르면 충돌하지 않고 시간 순으로 증가한다
+public class SnowflakeIdGenerator implements IdGenerator {
+
+    public static final long EPOCH = Instant.parse("2021-01-01T00:00:00Z").toEpochMilli();
+
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+
+    public static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+    private static final long MAX_CLOCK_BACKWARD_MILLIS = 10;
+
+    private final long nodeId;
+    private final Clock clock;
+
+    private long lastTimestamp = -1;
+    private long sequence;
+
+    public SnowflakeIdGenerator(long nodeId) {
+        this(nodeId, Clock.systemUTC());
+    }
+
+    SnowflakeIdGenerator(long nodeId, Clock clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException(MessageFormat.format("Node id should be between 0 and {0}. nodeId = {1}", MAX_NODE_ID, nodeId));
+        }
+
+        this.nodeId = nodeId;
+        this.clock = clock;
+    }
+
+    @Override
+    public synchronized long nextId() {
+        long timestamp = currentTimestamp();
+
+        if (timestamp < lastTimestamp) {
+            timestamp = waitForClock(lastTimestamp);
+        }
+
+        if (timestamp == lastTimestamp) {
+            sequence = (sequence + 1) & MAX_SEQUENCE;
+            if (sequence == 0) {
+                timestamp = waitForClock(lastTimestamp + 1);
+            }
+        } else {
+            sequence = 0;
+        }
+
+        lastTimestamp = timestamp;
+
+        return ((timestamp - EPOCH) << (NODE_BITS + SEQUENCE_BITS))
+                | (nodeId << SEQUENCE_BITS)
+                | sequence;
+    }
+
+    public static long nodeIdOf(long id) {
+        return (id >> SEQUENCE_BITS) & MAX_NODE_ID;
+    }
+
+    public static long timestampOf(long id) {
+        return (id >> (NODE_BITS + SEQUENCE_BITS)) + EPOCH;
+    }
+
+    // 시계가 조금 뒤로 간 경우(NTP 보정 등)는 따라잡을 때까지 기다리고, 크게 뒤로 가면 중복 발급을 막기 위해 실패한다
+    private long waitForClock(long target) {
+        long timestamp = currentTimestamp();
+
+        if (target - timestamp > MAX_CLOCK_BACKWARD_MILLIS) {
+            throw new IllegalStateException(MessageFormat.format("Clock moved backwards. refusing to generate id for {0}ms", target - timestamp));
+        }
+
+        while (timestamp < target) {
+            Thread.onSpinWait();
+            timestamp = currentTimestamp();
+        }
+
+        return timestamp;
+    }
+
+    private long currentTimestamp() {
+        return clock.millis();
+    }
+}
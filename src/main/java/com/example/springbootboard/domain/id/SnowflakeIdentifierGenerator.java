@@ -0,0 +1,34 @@
+package com.example.springbootboard.domain.id;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.Configurable;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.io.Serializable;
+import java.util.Properties;
+
+// @GenericGenerator(strategy = SnowflakeIdentifierGenerator.STRATEGY) 로 사용한다
+// 노드 번호는 spring.jpa.properties.board.id.node-id 로 노드마다 다르게 설정한다
+public class SnowflakeIdentifierGenerator implements IdentifierGenerator, Configurable {
+
+    public static final String STRATEGY = "com.example.springbootboard.domain.id.SnowflakeIdentifierGenerator";
+    public static final String NODE_ID = "board.id.node-id";
+
+    private IdGenerator idGenerator;
+
+    @Override
+    public void configure(Type type, Properties params, ServiceRegistry serviceRegistry) {
+        ConfigurationService configuration = serviceRegistry.getService(ConfigurationService.class);
+        long nodeId = configuration.getSetting(NODE_ID, value -> Long.valueOf(value.toString()), 0L);
+
+        this.idGenerator = new SnowflakeIdGenerator(nodeId);
+    }
+
+    @Override
+    public Serializable generate(SharedSessionContractImplementor session, Object object) {
+        return idGenerator.nextId();
+    }
+}
@@ -1,25 +1,29 @@
 package com.example.springbootboard.dto;
 
 import com.example.springbootboard.dto.response.PostDto;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.util.List;
 
+@JsonInclude(JsonInclude.Include.NON_NULL)
 @NoArgsConstructor
 @Getter
 public class PagePostDto {
-    private int page;
+    private Integer page;
     private int size;
     private boolean first;
     private boolean last;
-    private int totalPages;
-    private long totalElements;
+    private Integer totalPages;
+    private Long totalElements;
     private List<PostDto> posts;
+    private String nextCursor;
+    private String prevCursor;
 
     @Builder
-    public PagePostDto(int page, int size, boolean first, boolean last, int totalPages, long totalElements, List<PostDto> posts) {
+    public PagePostDto(Integer page, int size, boolean first, boolean last, Integer totalPages, Long totalElements, List<PostDto> posts, String nextCursor, String prevCursor) {
         this.page = page;
         this.size = size;
         this.first = first;
@@ -27,5 +31,7 @@ public class PagePostDto {
         this.totalPages = totalPages;
         this.totalElements = totalElements;
         this.posts = posts;
+        this.nextCursor = nextCursor;
+        this.prevCursor = prevCursor;
     }
 }
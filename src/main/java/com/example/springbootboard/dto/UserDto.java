@@ -2,6 +2,7 @@ package com.example.springbootboard.dto;
 
 import com.example.springbootboard.domain.Hobby;
 import com.example.springbootboard.domain.User;
+import com.example.springbootboard.validation.GenerateValidator;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -15,6 +16,7 @@ import java.time.LocalDateTime;
 @Getter
 @Setter
 @NoArgsConstructor
+@GenerateValidator
 public class UserDto {
 
 
@@ -0,0 +1,32 @@
+package com.example.springbootboard.dto.request;
+
+import com.example.springbootboard.error.exception.BusinessException;
+import com.example.springbootboard.error.exception.ErrorCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Locale;
+
+@Getter
+@RequiredArgsConstructor
+public enum ExportFormat {
+    // 한 줄에 게시물 하나씩 JSON
+    NDJSON("application/x-ndjson", "ndjson"),
+    // postId,title,content,createdAt,createdBy,modifiedAt (RFC 4180)
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    public static ExportFormat from(String value) {
+        if (value == null || value.isBlank()) {
+            return NDJSON;
+        }
+
+        try {
+            return ExportFormat.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException("Invalid export format. format = " + value, ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+}
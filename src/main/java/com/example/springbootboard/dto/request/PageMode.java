@@ -0,0 +1,27 @@
+package com.example.springbootboard.dto.request;
+
+import com.example.springbootboard.error.exception.BusinessException;
+import com.example.springbootboard.error.exception.ErrorCode;
+
+import java.util.Locale;
+
+public enum PageMode {
+    // COUNT 쿼리로 정확한 전체 개수를 계산한다
+    PAGE,
+    // COUNT 쿼리 없이 다음 페이지 존재 여부만 계산한다
+    SLICE,
+    // COUNT 쿼리 없이 캐시된 근사 전체 개수를 사용한다
+    ESTIMATE;
+
+    public static PageMode from(String value) {
+        if (value == null || value.isBlank()) {
+            return PAGE;
+        }
+
+        try {
+            return PageMode.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException("Invalid page mode. mode = " + value, ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+}
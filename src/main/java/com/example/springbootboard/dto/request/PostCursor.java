@@ -0,0 +1,63 @@
+package com.example.springbootboard.dto.request;
+
+import com.example.springbootboard.error.exception.BusinessException;
+import com.example.springbootboard.error.exception.ErrorCode;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// (createdAt, postId) 기준 keyset 페이징 커서. 클라이언트에게는 불투명한 문자열로만 노출한다.
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class PostCursor {
+
+    private static final String NEXT = "n";
+    private static final String PREV = "p";
+    private static final String DELIMITER = "|";
+
+    private final boolean next;
+    private final LocalDateTime createdAt;
+    private final Long postId;
+
+    public static PostCursor next(LocalDateTime createdAt, Long postId) {
+        return new PostCursor(true, createdAt, postId);
+    }
+
+    public static PostCursor prev(LocalDateTime createdAt, Long postId) {
+        return new PostCursor(false, createdAt, postId);
+    }
+
+    public String encode() {
+        String raw = (next ? NEXT : PREV) + DELIMITER + createdAt + DELIMITER + postId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 빈 문자열은 첫 페이지를 의미한다
+    public static PostCursor decode(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            String[] tokens = raw.split("\\" + DELIMITER);
+
+            if (tokens.length != 3 || !(NEXT.equals(tokens[0]) || PREV.equals(tokens[0]))) {
+                throw invalid(value);
+            }
+
+            return new PostCursor(NEXT.equals(tokens[0]), LocalDateTime.parse(tokens[1]), Long.valueOf(tokens[2]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw invalid(value);
+        }
+    }
+
+    private static BusinessException invalid(String value) {
+        return new BusinessException("Invalid cursor. cursor = " + value, ErrorCode.INVALID_INPUT_VALUE);
+    }
+}
@@ -4,6 +4,7 @@ import com.example.springbootboard.domain.Post;
 import com.example.springbootboard.domain.Title;
 import com.example.springbootboard.domain.User;
 import com.example.springbootboard.dto.UserDto;
+import com.example.springbootboard.validation.GenerateValidator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Builder;
 import lombok.Getter;
@@ -17,6 +18,7 @@ import javax.validation.constraints.Size;
 @NoArgsConstructor
 @Getter
 @Setter
+@GenerateValidator
 public class RequestCreatePost {
     
     @NotNull(message = "사용자 정보는 필수입니다")
@@ -27,7 +29,7 @@ public class RequestCreatePost {
     @NotBlank(message = "게시물 제목은 필수입니다")
     private String title;
 
-    @NotNull(message = "게시물 내용은 필수입니다")
+    @NotBlank(message = "게시물 내용은 필수입니다")
     private String content;
 
     @Builder
@@ -38,7 +40,7 @@ public class RequestCreatePost {
     }
 
     public Post toEntity(User user) {
-        return Post.createPost(new Title(this.title), this.content, user);
+        return Post.createPost(new Title(this.title), this.content, user, this.userDto.getName());
     }
 
 }
@@ -0,0 +1,30 @@
+package com.example.springbootboard.dto.request;
+
+import com.example.springbootboard.validation.GenerateValidator;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
+import java.util.List;
+
+@NoArgsConstructor
+@Getter
+@Setter
+@GenerateValidator
+public class RequestCreatePostBatch {
+
+    public static final int MAX_BATCH_SIZE = 500;
+
+    // 개별 게시물은 서비스에서 검증하고 항목별 결과로 응답한다
+    @Size(max = MAX_BATCH_SIZE, message = "한 번에 저장할 수 있는 게시물 수를 확인해주세요")
+    @NotEmpty(message = "게시물 목록은 필수입니다")
+    private List<RequestCreatePost> posts;
+
+    @Builder
+    public RequestCreatePostBatch(List<RequestCreatePost> posts) {
+        this.posts = posts;
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.springbootboard.dto.request;
+
+import com.example.springbootboard.validation.GenerateValidator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.validation.constraints.Size;
+import java.util.List;
+
+// postIds 또는 userName(그 사용자의 게시물 전부) 중 하나만 지정한다
+@NoArgsConstructor
+@Getter
+@Setter
+@GenerateValidator
+public class RequestDeletePosts {
+
+    public static final int MAX_POST_IDS = 10_000;
+
+    @Size(min = 1, max = MAX_POST_IDS, message = "한 번에 삭제할 수 있는 게시물 수를 확인해주세요")
+    private List<Long> postIds;
+
+    @Size(min = 1, message = "사용자 이름을 확인해주세요")
+    private String userName;
+
+    @Builder
+    public RequestDeletePosts(List<Long> postIds, String userName) {
+        this.postIds = postIds;
+        this.userName = userName;
+    }
+
+    @JsonIgnore
+    public boolean isByUser() {
+        return userName != null;
+    }
+}
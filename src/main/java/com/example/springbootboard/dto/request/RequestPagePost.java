@@ -8,10 +8,16 @@ import org.springframework.data.domain.Sort;
 public class RequestPagePost {
     private static final int DEFAULT_SIZE = 10;
     private static final int MAX_SIZE = 50;
+    private static final int MAX_EXCERPT = 500;
+    private static final String SUMMARY_VIEW = "summary";
 
     private int page;
     private int size;
     private String direction;
+    private String cursor;
+    private String mode;
+    private String view;
+    private int excerpt;
     public void setPage(int page) {
         this.page = page <= 0 ? 1 : page;
     }
@@ -21,8 +27,42 @@ public class RequestPagePost {
     public void setDirection(String direction) {
         this.direction = direction;
     }
+    public void setCursor(String cursor) {
+        this.cursor = cursor;
+    }
+    public void setMode(String mode) {
+        this.mode = mode;
+    }
+    public void setView(String view) {
+        this.view = view;
+    }
+    public void setExcerpt(int excerpt) {
+        this.excerpt = Math.max(0, Math.min(excerpt, MAX_EXCERPT));
+    }
     // getter
     public org.springframework.data.domain.PageRequest of() {
-        return org.springframework.data.domain.PageRequest.of(page -1, size, Sort.Direction.fromString(direction), "createdAt");
+        return org.springframework.data.domain.PageRequest.of(page -1, size, direction(), "createdAt");
+    }
+
+    // cursor 파라미터가 있으면(빈 값 포함) keyset 페이징으로 조회한다
+    public boolean isCursorMode() {
+        return cursor != null;
+    }
+
+    // summary 는 content 를 제외(excerpt 지정 시 앞부분만)하고 조회한다
+    public boolean isSummaryView() {
+        return SUMMARY_VIEW.equalsIgnoreCase(view);
+    }
+
+    public PageMode mode() {
+        return PageMode.from(mode);
+    }
+
+    public PostCursor cursor() {
+        return PostCursor.decode(cursor);
+    }
+
+    public Sort.Direction direction() {
+        return Sort.Direction.fromString(direction);
     }
 }
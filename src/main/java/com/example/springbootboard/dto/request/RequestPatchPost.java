@@ -0,0 +1,36 @@
+package com.example.springbootboard.dto.request;
+
+import com.example.springbootboard.domain.Title;
+import com.example.springbootboard.validation.GenerateValidator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.validation.constraints.Pattern;
+import javax.validation.constraints.Size;
+
+// 부분 수정. null 인 필드는 바꾸지 않는다
+@NoArgsConstructor
+@Getter
+@GenerateValidator
+public class RequestPatchPost {
+
+    @Size(min = Title.TITLE_MIN_LENGTH, max = Title.TITLE_MAX_LENGTH, message = "게시물 제목의 길이를 확인해주세요")
+    @Pattern(regexp = "(?s).*\\S.*", message = "게시물 제목은 공백일 수 없습니다")
+    private String title;
+
+    @Pattern(regexp = "(?s).*\\S.*", message = "게시물 내용은 공백일 수 없습니다")
+    private String content;
+
+    @Builder
+    public RequestPatchPost(String title, String content) {
+        this.title = title;
+        this.content = content;
+    }
+
+    @JsonIgnore
+    public boolean isEmpty() {
+        return title == null && content == null;
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.springbootboard.dto.request;
+
+import com.example.springbootboard.validation.GenerateValidator;
+import lombok.Getter;
+
+import javax.validation.constraints.NotBlank;
+
+@Getter
+@GenerateValidator
+public class RequestSearchPost {
+    private static final int DEFAULT_SIZE = 10;
+    private static final int MAX_SIZE = 50;
+
+    @NotBlank(message = "검색어는 필수입니다")
+    private String q;
+    private int page = 1;
+    private int size = DEFAULT_SIZE;
+
+    public void setQ(String q) {
+        this.q = q;
+    }
+    public void setPage(int page) {
+        this.page = page <= 0 ? 1 : page;
+    }
+    public void setSize(int size) {
+        this.size = size <= 0 || size > MAX_SIZE ? DEFAULT_SIZE : size;
+    }
+
+    // page 에 상한이 없으므로 int 로 곱하면 넘쳐 음수가 될 수 있다
+    public long offset() {
+        return (long) (page - 1) * size;
+    }
+}
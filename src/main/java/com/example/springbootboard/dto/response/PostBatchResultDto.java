@@ -0,0 +1,41 @@
+package com.example.springbootboard.dto.response;
+
+import com.example.springbootboard.error.ErrorResponse;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostBatchResultDto {
+
+    private int index;
+    // PostDto.postId 와 같이 문자열로 내보낸다
+    @JsonSerialize(using = ToStringSerializer.class)
+    private Long postId;
+    private List<ErrorResponse.FieldError> errors;
+
+    private PostBatchResultDto(int index, Long postId, List<ErrorResponse.FieldError> errors) {
+        this.index = index;
+        this.postId = postId;
+        this.errors = errors;
+    }
+
+    public static PostBatchResultDto success(int index, Long postId) {
+        return new PostBatchResultDto(index, postId, null);
+    }
+
+    public static PostBatchResultDto failure(int index, List<ErrorResponse.FieldError> errors) {
+        return new PostBatchResultDto(index, null, errors);
+    }
+
+    public boolean isSuccess() {
+        return errors == null;
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.springbootboard.dto.response;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostDeleteResultDto {
+
+    // 실제로 지워진 행 수 (없는 id 는 세지 않는다)
+    private long deleted;
+    // 트랜잭션(delete 문) 수
+    private int chunks;
+    private long elapsedMillis;
+
+    @Builder
+    public PostDeleteResultDto(long deleted, int chunks, long elapsedMillis) {
+        this.deleted = deleted;
+        this.chunks = chunks;
+        this.elapsedMillis = elapsedMillis;
+    }
+}
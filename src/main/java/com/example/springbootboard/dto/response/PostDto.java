@@ -1,5 +1,9 @@
 package com.example.springbootboard.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -11,18 +15,44 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class PostDto {
 
+    // Snowflake id 는 2^53 을 넘어 JavaScript 의 number 로 읽으면 반올림되므로 문자열로 내보낸다
+    @JsonSerialize(using = ToStringSerializer.class)
     private Long postId;
     private String title;
+    // 요약 조회에서는 내용을 읽지 않거나 앞부분만 읽는다
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private String content;
     private LocalDateTime createdAt;
     private String createdBy;
+    private LocalDateTime modifiedAt;
+    @JsonIgnore
+    private Long version;
+    // PostViewCounter 가 flush 한 값이다. 캐시된 응답에서는 flush 주기에 캐시 수명까지 더한 만큼 늦을 수 있다
+    private long viewCount;
+    // 단건 조회의 Last-Modified 에만 쓴다
+    @JsonIgnore
+    private LocalDateTime viewsFlushedAt;
+
+    // 요약 조회(JPQL 생성자 표현식)용
+    public PostDto(Long postId, String title, LocalDateTime createdAt, String createdBy, LocalDateTime modifiedAt, Long version, long viewCount) {
+        this(postId, title, null, createdAt, createdBy, modifiedAt, version, viewCount);
+    }
+
+    // 색인, 내보내기(JPQL 생성자 표현식)용
+    public PostDto(Long postId, String title, String content, LocalDateTime createdAt, String createdBy, LocalDateTime modifiedAt, Long version, long viewCount) {
+        this(postId, title, content, createdAt, createdBy, modifiedAt, version, viewCount, null);
+    }
 
     @Builder
-    public PostDto(Long postId, String title, String content, LocalDateTime createdAt, String createdBy) {
+    public PostDto(Long postId, String title, String content, LocalDateTime createdAt, String createdBy, LocalDateTime modifiedAt, Long version, long viewCount, LocalDateTime viewsFlushedAt) {
         this.postId = postId;
         this.title = title;
         this.content = content;
         this.createdAt = createdAt;
         this.createdBy = createdBy;
+        this.modifiedAt = modifiedAt;
+        this.version = version;
+        this.viewCount = viewCount;
+        this.viewsFlushedAt = viewsFlushedAt;
     }
 }
@@ -0,0 +1,23 @@
+package com.example.springbootboard.dto.response;
+
+import com.example.springbootboard.error.ErrorResponse;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 가져오기에서 거부된 줄. /batch 의 PostBatchResultDto.index(요청 배열 위치)와 달리 입력의 줄 번호다
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostImportRejectionDto {
+
+    // 1 부터 시작하는 줄 번호 (빈 줄 포함)
+    private long line;
+    private List<ErrorResponse.FieldError> errors;
+
+    public PostImportRejectionDto(long line, List<ErrorResponse.FieldError> errors) {
+        this.line = line;
+        this.errors = errors;
+    }
+}
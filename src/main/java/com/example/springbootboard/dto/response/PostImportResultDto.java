@@ -0,0 +1,32 @@
+package com.example.springbootboard.dto.response;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostImportResultDto {
+
+    private long accepted;
+    private long rejected;
+    private long elapsedMillis;
+    private long postsPerSecond;
+    // false 면 중간에 실패한 것이다. accepted 는 그 전에 커밋된 건수다
+    private boolean completed;
+    // 거부된 줄. 앞쪽 일부만 담는다
+    private List<PostImportRejectionDto> rejections;
+
+    @Builder
+    public PostImportResultDto(long accepted, long rejected, long elapsedMillis, boolean completed, List<PostImportRejectionDto> rejections) {
+        this.accepted = accepted;
+        this.completed = completed;
+        this.rejected = rejected;
+        this.elapsedMillis = elapsedMillis;
+        this.postsPerSecond = elapsedMillis == 0 ? accepted : accepted * 1000 / elapsedMillis;
+        this.rejections = rejections;
+    }
+}
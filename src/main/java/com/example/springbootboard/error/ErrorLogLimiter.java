@@ -0,0 +1,52 @@
+package com.example.springbootboard.error;
+
+import com.example.springbootboard.error.exception.ErrorCode;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+// ErrorCode 마다 interval 에 한 번만 로그를 남기게 한다. 건너뛴 건수는 다음에 남기는 로그에 붙인다
+// interval 이 0 이면 모두 남긴다
+class ErrorLogLimiter {
+
+    static final long SUPPRESSED = -1;
+
+    private final long intervalNanos;
+    private final Map<ErrorCode, Window> windows = new EnumMap<>(ErrorCode.class);
+
+    ErrorLogLimiter(long intervalNanos) {
+        this.intervalNanos = intervalNanos;
+        long now = System.nanoTime();
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            windows.put(errorCode, new Window(now));
+        }
+    }
+
+    // 로그를 남겨도 되면 그동안 건너뛴 건수를, 아니면 SUPPRESSED 를 돌려준다
+    long acquire(ErrorCode errorCode) {
+        if (intervalNanos <= 0) {
+            return 0;
+        }
+
+        Window window = windows.get(errorCode);
+        long now = System.nanoTime();
+        long next = window.next.get();
+
+        if (now - next >= 0 && window.next.compareAndSet(next, now + intervalNanos)) {
+            return window.suppressed.getAndSet(0);
+        }
+
+        window.suppressed.incrementAndGet();
+        return SUPPRESSED;
+    }
+
+    private static class Window {
+        private final AtomicLong next;
+        private final AtomicLong suppressed = new AtomicLong();
+
+        Window(long next) {
+            this.next = new AtomicLong(next);
+        }
+    }
+}
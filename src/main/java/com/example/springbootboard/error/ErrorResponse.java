@@ -1,6 +1,7 @@
 package com.example.springbootboard.error;
 
 import com.example.springbootboard.error.exception.ErrorCode;
+import com.example.springbootboard.validation.Violation;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -8,13 +9,24 @@ import org.springframework.validation.BindingResult;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ErrorResponse {
 
+    // 필드 오류가 없는 응답은 바뀌지 않으므로 코드마다 하나만 만들어 둔다
+    private static final Map<ErrorCode, ErrorResponse> PREALLOCATED = new EnumMap<>(ErrorCode.class);
+
+    static {
+        for (ErrorCode code : ErrorCode.values()) {
+            PREALLOCATED.put(code, new ErrorResponse(code));
+        }
+    }
+
     private String message;
     private int status;
     private List<FieldError> errors;
@@ -30,7 +42,7 @@ public class ErrorResponse {
     private ErrorResponse(ErrorCode code) {
         this.message = code.getMessage();
         this.status = code.getStatus();
-        this.errors = new ArrayList<>();
+        this.errors = List.of();
         this.code = code.getCode();
     }
 
@@ -39,7 +51,7 @@ public class ErrorResponse {
     }
 
     public static ErrorResponse of(final ErrorCode code) {
-        return new ErrorResponse(code);
+        return PREALLOCATED.get(code);
     }
 
     public static ErrorResponse of(final ErrorCode code, final List<FieldError> errors) {
@@ -71,6 +83,15 @@ public class ErrorResponse {
             return fieldErrors;
         }
 
+        public static List<FieldError> of(final String prefix, final List<Violation> violations) {
+            return violations.stream()
+                    .map(violation -> new FieldError(
+                            prefix + violation.getField(),
+                            violation.getInvalidValue() == null ? "" : violation.getInvalidValue().toString(),
+                            violation.getMessage()))
+                    .collect(Collectors.toList());
+        }
+
         private static List<FieldError> of(final BindingResult bindingResult) {
             final List<org.springframework.validation.FieldError> fieldErrors = bindingResult.getFieldErrors();
             return fieldErrors.stream()
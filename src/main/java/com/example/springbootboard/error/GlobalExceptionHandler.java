@@ -1,8 +1,13 @@
 package com.example.springbootboard.error;
 
+import com.example.springbootboard.dto.ResponseDto;
 import com.example.springbootboard.error.exception.BusinessException;
 import com.example.springbootboard.error.exception.ErrorCode;
+import com.example.springbootboard.error.exception.ImportAbortedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindException;
@@ -12,15 +17,40 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
 
 @Slf4j
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    private static final String ERROR_COUNTER = "board.errors";
+
+    // ErrorCode 마다 미리 등록해 두어 발생하지 않은 코드도 0 으로 노출된다 (rate 알림용)
+    private final Map<ErrorCode, Counter> errorCounters = new EnumMap<>(ErrorCode.class);
+    // 같은 코드의 로그는 board.error-log.interval 에 한 번만 남긴다. 발생 수는 board.errors 로 본다
+    private final ErrorLogLimiter logLimiter;
+
+    public GlobalExceptionHandler(MeterRegistry meterRegistry,
+                                  @Value("${board.error-log.interval:10s}") Duration logInterval) {
+        this.logLimiter = new ErrorLogLimiter(logInterval.toNanos());
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            errorCounters.put(errorCode, Counter.builder(ERROR_COUNTER)
+                    .description("handled errors by ErrorCode")
+                    .tag("code", errorCode.getCode())
+                    .tag("error", errorCode.name())
+                    .tag("status", String.valueOf(errorCode.getStatus()))
+                    .register(meterRegistry));
+        }
+    }
+
     // @RequestBody binding error
     @ExceptionHandler(MethodArgumentNotValidException.class)
     protected ResponseEntity<ErrorResponse> handleMethodArgumentNotValidException(MethodArgumentNotValidException e) {
-        log.error("handleMethodArgumentNotValidException", e);
+        warn(ErrorCode.INVALID_INPUT_VALUE, "handleMethodArgumentNotValidException", e);
+        count(ErrorCode.INVALID_INPUT_VALUE);
         ErrorResponse errorResponse = ErrorResponse.of(ErrorCode.INVALID_INPUT_VALUE, e.getBindingResult());
 
         return ResponseEntity.badRequest().body(errorResponse);
@@ -29,7 +59,8 @@ public class GlobalExceptionHandler {
     // @ModelAttribute binding error
     @ExceptionHandler(BindException.class)
     protected ResponseEntity<ErrorResponse> handleBindException(BindException e) {
-        log.error("handleBindException", e);
+        warn(ErrorCode.INVALID_INPUT_VALUE, "handleBindException", e);
+        count(ErrorCode.INVALID_INPUT_VALUE);
         ErrorResponse errorResponse = ErrorResponse.of(ErrorCode.INVALID_INPUT_VALUE, e.getBindingResult());
 
         return ResponseEntity.badRequest().body(errorResponse);
@@ -38,7 +69,8 @@ public class GlobalExceptionHandler {
     // enum type mismatch error
     @ExceptionHandler(MethodArgumentTypeMismatchException.class)
     protected ResponseEntity<ErrorResponse> handleMethodArgumentTypeMismatchException(MethodArgumentTypeMismatchException e) {
-        log.error("handleMethodArgumentTypeMismatchException", e);
+        warn(ErrorCode.INVALID_TYPE_VALUE, "handleMethodArgumentTypeMismatchException", e);
+        count(ErrorCode.INVALID_TYPE_VALUE);
         ErrorResponse errorResponse = ErrorResponse.of(e);
 
         return ResponseEntity.badRequest().body(errorResponse);
@@ -47,7 +79,8 @@ public class GlobalExceptionHandler {
     // 지원하지 않는 HTTP Method error
     @ExceptionHandler(HttpRequestMethodNotSupportedException.class)
     protected ResponseEntity<ErrorResponse> handleHttpRequestMethodNotSupportedException(HttpRequestMethodNotSupportedException e) {
-        log.error("handleAccessDeniedException", e);
+        warn(ErrorCode.METHOD_NOT_ALLOWED, "handleHttpRequestMethodNotSupportedException", e);
+        count(ErrorCode.METHOD_NOT_ALLOWED);
         ErrorResponse errorResponse = ErrorResponse.of(ErrorCode.METHOD_NOT_ALLOWED);
 
         return ResponseEntity.status(HttpStatus.METHOD_NOT_ALLOWED).body(errorResponse);
@@ -56,18 +89,52 @@ public class GlobalExceptionHandler {
     // Business error
     @ExceptionHandler(BusinessException.class)
     protected ResponseEntity<ErrorResponse> handleBusinessException(BusinessException e) {
-        log.error("handleBusinessException", e);
-        ErrorResponse errorResponse = ErrorResponse.of(ErrorCode.INTERNAL_SERVER_ERROR);
+        ErrorCode errorCode = e.getErrorCode();
+        warn(errorCode, "handleBusinessException", e);
+        count(errorCode);
+        ErrorResponse errorResponse = ErrorResponse.of(errorCode);
 
-        return ResponseEntity.internalServerError().body(errorResponse);
+        return ResponseEntity.status(errorCode.getStatus()).body(errorResponse);
+    }
+
+    // 가져오기가 중간에 실패해도 이미 커밋된 건수를 알 수 있도록 결과를 함께 응답한다
+    @ExceptionHandler(ImportAbortedException.class)
+    protected ResponseEntity<ResponseDto> handleImportAbortedException(ImportAbortedException e) {
+        long suppressed = logLimiter.acquire(ErrorCode.INTERNAL_SERVER_ERROR);
+        if (suppressed != ErrorLogLimiter.SUPPRESSED) {
+            log.error("handleImportAbortedException: {} (suppressed {})", e.getMessage(), suppressed, e.getCause());
+        }
+        count(ErrorCode.INTERNAL_SERVER_ERROR);
+
+        return ResponseEntity.internalServerError()
+                .body(ResponseDto.builder()
+                        .data(e.getResult())
+                        .status(HttpStatus.INTERNAL_SERVER_ERROR)
+                        .build());
     }
 
     // etc runtime exception
     @ExceptionHandler(RuntimeException.class)
     protected ResponseEntity<ErrorResponse> handleRuntimeException(RuntimeException e) {
-        log.error("handleRuntimeException", e);
+        long suppressed = logLimiter.acquire(ErrorCode.INTERNAL_SERVER_ERROR);
+        if (suppressed != ErrorLogLimiter.SUPPRESSED) {
+            log.error("handleRuntimeException (suppressed {})", suppressed, e);
+        }
+        count(ErrorCode.INTERNAL_SERVER_ERROR);
         ErrorResponse errorResponse = ErrorResponse.of(ErrorCode.INTERNAL_SERVER_ERROR);
 
         return ResponseEntity.internalServerError().body(errorResponse);
     }
+
+    // 예상된 클라이언트 오류는 스택 트레이스 없이 메시지만 남긴다
+    private void warn(ErrorCode errorCode, String handler, Exception e) {
+        long suppressed = logLimiter.acquire(errorCode);
+        if (suppressed != ErrorLogLimiter.SUPPRESSED) {
+            log.warn("{}: {} (suppressed {})", handler, e.getMessage(), suppressed);
+        }
+    }
+
+    private void count(ErrorCode errorCode) {
+        errorCounters.get(errorCode).increment();
+    }
 }
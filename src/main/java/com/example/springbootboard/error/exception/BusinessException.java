@@ -1,15 +1,18 @@
 package com.example.springbootboard.error.exception;
 
+// 잘못된 요청이나 없는 id 처럼 예상된 클라이언트 오류이므로 스택 트레이스를 채우지 않는다
+// GlobalExceptionHandler 는 메시지만 로그로 남긴다
 public class BusinessException extends RuntimeException {
 
     private ErrorCode errorCode;
 
     public BusinessException(ErrorCode errorCode) {
+        super(null, null, false, false);
         this.errorCode = errorCode;
     }
 
     public BusinessException(String message, ErrorCode errorCode) {
-        super(message);
+        super(message, null, false, false);
         this.errorCode = errorCode;
     }
 
@@ -2,7 +2,27 @@ package com.example.springbootboard.error.exception;
 
 public class EntityNotFoundException extends BusinessException{
 
+    private final String entity;
+    private final Object id;
+
     public EntityNotFoundException(String message) {
         super(message, ErrorCode.ENTITY_NOT_FOUND);
+        this.entity = null;
+        this.id = null;
+    }
+
+    // 없는 id 조회는 흔하므로 메시지는 로그로 남길 때만 만든다
+    public EntityNotFoundException(String entity, Object id) {
+        super(ErrorCode.ENTITY_NOT_FOUND);
+        this.entity = entity;
+        this.id = id;
+    }
+
+    @Override
+    public String getMessage() {
+        if (entity == null) {
+            return super.getMessage();
+        }
+        return "There is no " + entity + ". id = " + id;
     }
 }
@@ -8,7 +8,7 @@ public enum ErrorCode {
     // Common
     INVALID_INPUT_VALUE(400, "C001", "Invalid Input value"),
     INVALID_TYPE_VALUE(400, "C002", " Invalid Type Value"),
-    ENTITY_NOT_FOUND(400, "C003", "Entity Not Found"),
+    ENTITY_NOT_FOUND(404, "C003", "Entity Not Found"),
     METHOD_NOT_ALLOWED(405, "C004", "Invalid Input value"),
     INTERNAL_SERVER_ERROR(500, "C005", "Server Error"),;
 
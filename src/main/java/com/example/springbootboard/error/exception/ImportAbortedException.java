@@ -0,0 +1,18 @@
+package com.example.springbootboard.error.exception;
+
+import com.example.springbootboard.dto.response.PostImportResultDto;
+
+// 가져오기가 중간에 실패했다. 앞서 커밋된 배치는 되돌리지 않으므로 그때까지의 결과를 함께 싣는다
+public class ImportAbortedException extends RuntimeException {
+
+    private final PostImportResultDto result;
+
+    public ImportAbortedException(PostImportResultDto result, Throwable cause) {
+        super("Post import aborted. accepted = " + result.getAccepted(), cause);
+        this.result = result;
+    }
+
+    public PostImportResultDto getResult() {
+        return result;
+    }
+}
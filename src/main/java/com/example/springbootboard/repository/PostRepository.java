@@ -2,11 +2,93 @@ package com.example.springbootboard.repository;
 
 import com.example.springbootboard.domain.Post;
 import com.example.springbootboard.domain.User;
+import com.example.springbootboard.dto.response.PostDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.QueryHint;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
-    void findByContent(String content);
+    String SELECT_SUMMARY = "select new com.example.springbootboard.dto.response.PostDto(p.id, p.title.title, p.createdAt, p.createdBy, p.modifiedAt, p.version, p.viewCount) from Post p";
+    String SELECT_EXCERPT = "select new com.example.springbootboard.dto.response.PostDto(p.id, p.title.title, substring(p.content, 1, :length), p.createdAt, p.createdBy, p.modifiedAt, p.version, p.viewCount) from Post p";
+    String COUNT_ALL = "select count(p) from Post p";
+    int EXPORT_FETCH_SIZE = 500;
+
+    // COUNT 쿼리 없이 size + 1 건을 조회해 다음 페이지 여부만 판단한다
+    Slice<Post> findSliceBy(Pageable pageable);
+
+    //== 요약 조회 (@Lob content 를 읽지 않는다) ==//
+    @Query(value = SELECT_SUMMARY, countQuery = COUNT_ALL)
+    Page<PostDto> findSummaryPage(Pageable pageable);
+
+    @Query(SELECT_SUMMARY)
+    Slice<PostDto> findSummarySlice(Pageable pageable);
+
+    @Query(value = SELECT_EXCERPT, countQuery = COUNT_ALL)
+    Page<PostDto> findExcerptPage(@Param("length") int length, Pageable pageable);
+
+    @Query(SELECT_EXCERPT)
+    Slice<PostDto> findExcerptSlice(@Param("length") int length, Pageable pageable);
+
+    // 검색 색인 생성용. 영속성 컨텍스트에 쌓이지 않도록 DTO 로 읽는다
+    @Query("select new com.example.springbootboard.dto.response.PostDto(p.id, p.title.title, p.content, p.createdAt, p.createdBy, p.modifiedAt, p.version, p.viewCount)" +
+            " from Post p where p.id > :postId order by p.id asc")
+    List<PostDto> findAllAfterId(@Param("postId") Long postId, Pageable pageable);
+
+    // 전체 내보내기용 forward-only 커서. 트랜잭션 안에서 소비하고 닫아야 한다
+    // DTO 로 읽으므로 영속성 컨텍스트에 엔티티가 쌓이지 않는다
+    // (MySQL 은 useCursorFetch=true 여야 fetch size 단위로 가져온다)
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE))
+    @Query("select new com.example.springbootboard.dto.response.PostDto(p.id, p.title.title, p.content, p.createdAt, p.createdBy, p.modifiedAt, p.version, p.viewCount)" +
+            " from Post p order by p.id asc")
+    Stream<PostDto> streamAll();
+
+    //== keyset 페이징 ==//
+    List<Post> findAllBy(Pageable pageable);
+
+    @Query("select p from Post p" +
+            " where p.createdAt > :createdAt or (p.createdAt = :createdAt and p.id > :postId)" +
+            " order by p.createdAt asc, p.id asc")
+    List<Post> findAllAfter(@Param("createdAt") LocalDateTime createdAt, @Param("postId") Long postId, Pageable pageable);
+
+    @Query("select p from Post p" +
+            " where p.createdAt < :createdAt or (p.createdAt = :createdAt and p.id < :postId)" +
+            " order by p.createdAt desc, p.id desc")
+    List<Post> findAllBefore(@Param("createdAt") LocalDateTime createdAt, @Param("postId") Long postId, Pageable pageable);
+
+    //== 부분 수정 ==//
+    // 엔티티를 읽지 않고 update 한 번으로 바꾼다. null 인 파라미터는 기존 값을 둔다
+    // bulk update 는 @Version, @PreUpdate 를 거치지 않으므로 version, modifiedAt 을 직접 바꾼다
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Post p" +
+            " set p.title.title = coalesce(:title, p.title.title)," +
+            " p.content = coalesce(:content, p.content)," +
+            " p.version = p.version + 1," +
+            " p.modifiedAt = :modifiedAt" +
+            " where p.id = :postId")
+    int patch(@Param("postId") Long postId, @Param("title") String title, @Param("content") String content, @Param("modifiedAt") LocalDateTime modifiedAt);
+
+    //== 삭제 ==//
+    // deleteById 와 달리 엔티티를 먼저 읽지 않는다. 지운 행 수를 돌려준다
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Post p where p.id = :postId")
+    int deleteOne(@Param("postId") Long postId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Post p where p.id in :postIds")
+    int deleteAllByIds(@Param("postIds") Collection<Long> postIds);
+
+    @Query("select p.id from Post p where p.user.id = :userId order by p.id asc")
+    List<Long> findIdsByUserId(@Param("userId") Long userId, Pageable pageable);
 }
@@ -0,0 +1,82 @@
+package com.example.springbootboard.repository;
+
+import com.example.springbootboard.dto.response.PostDto;
+import io.r2dbc.spi.Row;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// PostRepository 의 조회 일부를 R2DBC 로 옮긴 것. 테이블은 JPA 가 만든 post 를 그대로 읽는다
+@RequiredArgsConstructor
+@Repository
+public class ReactivePostRepository {
+
+    private static final String SELECT_POST = "select post_id, title, content, created_at, created_by, modified_at, version, view_count, views_flushed_at from post";
+    public static final int STREAM_CHUNK_SIZE = 500;
+
+    private final DatabaseClient databaseClient;
+
+    public Mono<PostDto> findById(Long postId) {
+        return databaseClient.sql(SELECT_POST + " where post_id = :postId")
+                .bind("postId", postId)
+                .map(ReactivePostRepository::toDto)
+                .one();
+    }
+
+    // PostRepository.findAll(Pageable) 과 같은 순서(createdAt)로 읽는다. 같은 시각은 post_id 로 정렬해 페이지 경계를 고정한다
+    public Flux<PostDto> findPage(Sort.Direction direction, long offset, int limit) {
+        String order = direction.isAscending() ? "asc" : "desc";
+
+        return databaseClient.sql(SELECT_POST + " order by created_at " + order + ", post_id " + order + " limit :limit offset :offset")
+                .bind("limit", limit)
+                .bind("offset", offset)
+                .map(ReactivePostRepository::toDto)
+                .all();
+    }
+
+    public Mono<Long> count() {
+        return databaseClient.sql("select count(*) from post")
+                .map(row -> row.get(0, Long.class))
+                .one();
+    }
+
+    // 전체 게시물을 id 순으로 흘려 보낸다
+    // 한 번에 STREAM_CHUNK_SIZE 건씩 keyset 으로 읽고, 구독자가 요청한 만큼 소비해야 다음 묶음을 읽는다
+    public Flux<PostDto> streamAll() {
+        return findChunkAfter(0L)
+                .expand(chunk -> chunk.size() < STREAM_CHUNK_SIZE
+                        ? Mono.empty()
+                        : findChunkAfter(chunk.get(chunk.size() - 1).getPostId()))
+                .concatMapIterable(chunk -> chunk, 1);
+    }
+
+    private Mono<List<PostDto>> findChunkAfter(Long postId) {
+        return databaseClient.sql(SELECT_POST + " where post_id > :postId order by post_id asc limit :limit")
+                .bind("postId", postId)
+                .bind("limit", STREAM_CHUNK_SIZE)
+                .map(ReactivePostRepository::toDto)
+                .all()
+                .collectList()
+                .filter(chunk -> !chunk.isEmpty());
+    }
+
+    private static PostDto toDto(Row row) {
+        return PostDto.builder()
+                .postId(row.get("post_id", Long.class))
+                .title(row.get("title", String.class))
+                .content(row.get("content", String.class))
+                .createdAt(row.get("created_at", LocalDateTime.class))
+                .createdBy(row.get("created_by", String.class))
+                .modifiedAt(row.get("modified_at", LocalDateTime.class))
+                .version(row.get("version", Long.class))
+                .viewCount(row.get("view_count", Long.class))
+                .viewsFlushedAt(row.get("views_flushed_at", LocalDateTime.class))
+                .build();
+    }
+}
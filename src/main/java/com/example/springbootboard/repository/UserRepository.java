@@ -2,6 +2,16 @@ package com.example.springbootboard.repository;
 
 import com.example.springbootboard.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
+
+    // 트랜잭션 밖에서 불러도 자기 트랜잭션에서 읽고 커넥션을 바로 돌려준다 (UserService.findOrCreate)
+    @Transactional(readOnly = true)
+    @Query("select u.id from User u where u.name = :name")
+    Optional<Long> findIdByName(@Param("name") String name);
 }
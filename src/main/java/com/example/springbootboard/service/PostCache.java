@@ -0,0 +1,55 @@
+package com.example.springbootboard.service;
+
+import com.example.springbootboard.dto.response.PostDto;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// "post" 캐시(단건 PostDto)를 채우고 비우는 규칙을 한곳에 둔다 (PostService, ReactivePostService)
+// 커밋 전에 읽어 간 옛 값이 비운 뒤에 다시 들어오지 않도록, 비울 때마다 세대를 올리고
+// 채우는 쪽은 읽기 시작한 뒤 세대가 바뀌었으면 방금 넣은 값을 지운다 (ResponseBodyCache 와 같은 방식)
+@Component
+class PostCache {
+
+    // 트랜잭션 안의 put 이 커밋 뒤로 미뤄지면 세대 확인보다 늦게 들어가므로 트랜잭션을 모르는 원본 캐시를 쓴다
+    private final Cache cache;
+    private final AtomicLong generation = new AtomicLong();
+
+    PostCache(CacheManager cacheManager) {
+        Cache cache = cacheManager.getCache(PostService.POST_CACHE);
+        this.cache = cache instanceof TransactionAwareCacheDecorator
+                ? ((TransactionAwareCacheDecorator) cache).getTargetCache()
+                : cache;
+    }
+
+    PostDto get(Long postId) {
+        return cache.get(postId, PostDto.class);
+    }
+
+    // 읽기 전에 받아 두었다가 put 에 넘긴다
+    long generation() {
+        return generation.get();
+    }
+
+    void put(Long postId, PostDto post, long started) {
+        cache.put(postId, post);
+        if (generation.get() != started) {
+            cache.evictIfPresent(postId);
+        }
+    }
+
+    // 커밋 전에 한 번(이미 캐시된 값), 커밋 후에 한 번(커밋 전에 읽어 간 값) 비운다
+    void evict(Long postId) {
+        invalidate(postId);
+        TransactionCallbacks.afterCommit(() -> invalidate(postId));
+    }
+
+    // 세대를 먼저 올려야, 비운 직후에 put 한 쪽이 바뀐 세대를 보고 스스로 지운다
+    private void invalidate(Long postId) {
+        generation.incrementAndGet();
+        cache.evictIfPresent(postId);
+    }
+}
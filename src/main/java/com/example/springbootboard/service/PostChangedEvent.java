@@ -0,0 +1,14 @@
+package com.example.springbootboard.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+// 게시물 저장/수정/삭제가 커밋된 뒤 발행한다. 저장은 목록만 바뀌므로 postIds 가 비어 있을 수 있다
+@Getter
+@RequiredArgsConstructor
+public class PostChangedEvent {
+
+    private final List<Long> postIds;
+}
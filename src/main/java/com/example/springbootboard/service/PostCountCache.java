@@ -0,0 +1,41 @@
+package com.example.springbootboard.service;
+
+import com.example.springbootboard.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// 게시물 전체 개수의 근사값. 저장/삭제 시 증감하고 주기적으로 COUNT 쿼리로 보정한다
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class PostCountCache {
+
+    private static final long UNINITIALIZED = -1;
+
+    private final PostRepository postRepository;
+    private final AtomicLong count = new AtomicLong(UNINITIALIZED);
+
+    public long get() {
+        long current = count.get();
+        if (current == UNINITIALIZED) {
+            return refresh();
+        }
+        return current;
+    }
+
+    void increment(long delta) {
+        count.updateAndGet(current -> current == UNINITIALIZED ? current : Math.max(0, current + delta));
+    }
+
+    @Scheduled(fixedDelayString = "${board.post-count.refresh-interval:60000}")
+    public long refresh() {
+        long actual = postRepository.count();
+        count.set(actual);
+        log.debug("post count refreshed. count = {}", actual);
+        return actual;
+    }
+}
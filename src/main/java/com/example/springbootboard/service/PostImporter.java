@@ -0,0 +1,299 @@
+package com.example.springbootboard.service;
+
+import com.example.springbootboard.dto.request.RequestCreatePost;
+import com.example.springbootboard.dto.response.PostBatchResultDto;
+import com.example.springbootboard.dto.response.PostImportRejectionDto;
+import com.example.springbootboard.dto.response.PostImportResultDto;
+import com.example.springbootboard.error.ErrorResponse;
+import com.example.springbootboard.error.exception.ImportAbortedException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+// NDJSON(한 줄에 RequestCreatePost 하나)을 읽는 대로 저장한다
+// 읽기(요청 스레드) -> 파싱/검증(parser-threads 개) -> 저장(1 개, batch-size 건마다 한 트랜잭션)
+// 단계 사이 큐는 크기가 정해져 있어 저장이 밀리면 읽기도 멈추므로 입력 크기와 무관하게 메모리가 일정하다
+// 중간에 실패하면 이미 커밋된 배치는 남고, 그때까지의 결과를 ImportAbortedException 에 실어 던진다
+@Slf4j
+@Component
+public class PostImporter {
+
+    private static final int MAX_REJECTIONS = 100;
+    private static final long POLL_MILLIS = 100;
+
+    private final PostService postService;
+    private final ObjectReader reader;
+    private final int batchSize;
+    private final int parserThreads;
+    private final int queueCapacity;
+
+    public PostImporter(PostService postService,
+                        ObjectMapper objectMapper,
+                        @Value("${board.import.batch-size:500}") int batchSize,
+                        @Value("${board.import.parser-threads:0}") int parserThreads) {
+        this.postService = postService;
+        this.reader = objectMapper.readerFor(RequestCreatePost.class);
+        this.batchSize = batchSize;
+        this.parserThreads = parserThreads > 0 ? parserThreads : Runtime.getRuntime().availableProcessors();
+        this.queueCapacity = this.parserThreads * 2;
+    }
+
+    public PostImportResultDto importFrom(InputStream in) {
+        return new Import().run(in);
+    }
+
+    @RequiredArgsConstructor
+    private static class Chunk {
+        private static final Chunk END = new Chunk(List.of(), new long[0]);
+
+        // 파싱 전에는 String, 파싱 후에는 RequestCreatePost
+        private final List<?> records;
+        private final long[] lineNumbers;
+    }
+
+    // 가져오기 한 번의 상태
+    private class Import {
+        private final BlockingQueue<Chunk> lines = new ArrayBlockingQueue<>(queueCapacity);
+        private final BlockingQueue<Chunk> parsed = new ArrayBlockingQueue<>(queueCapacity);
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+        private final AtomicLong accepted = new AtomicLong();
+        private final AtomicLong rejected = new AtomicLong();
+        private final List<PostImportRejectionDto> rejections = new ArrayList<>();
+
+        PostImportResultDto run(InputStream in) {
+            long started = System.nanoTime();
+            ExecutorService executor = Executors.newFixedThreadPool(parserThreads + 1, new CustomizableThreadFactory("post-import-"));
+
+            try {
+                for (int i = 0; i < parserThreads; i++) {
+                    executor.execute(() -> guard(this::parse));
+                }
+                executor.execute(() -> guard(this::write));
+
+                guard(() -> read(in));
+
+                executor.shutdown();
+                while (!executor.awaitTermination(POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                    if (failure.get() != null) {
+                        break;
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failure.compareAndSet(null, e);
+            } finally {
+                executor.shutdownNow();
+            }
+
+            Throwable e = failure.get();
+            if (e instanceof Error) {
+                throw (Error) e;
+            }
+
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+            log.info("post import {}. accepted = {}, rejected = {}, elapsed = {}ms",
+                    e == null ? "finished" : "aborted", accepted.get(), rejected.get(), elapsedMillis);
+
+            rejections.sort(Comparator.comparingLong(PostImportRejectionDto::getLine));
+            PostImportResultDto result = PostImportResultDto.builder()
+                    .accepted(accepted.get())
+                    .rejected(rejected.get())
+                    .elapsedMillis(elapsedMillis)
+                    .completed(e == null)
+                    .rejections(rejections)
+                    .build();
+
+            if (e != null) {
+                throw new ImportAbortedException(result, e);
+            }
+            return result;
+        }
+
+        private void read(InputStream in) {
+            BufferedReader lineReader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+            List<String> records = new ArrayList<>(batchSize);
+            long[] lineNumbers = new long[batchSize];
+            long lineNumber = 0;
+
+            try {
+                String line;
+                while ((line = lineReader.readLine()) != null) {
+                    lineNumber++;
+                    if (line.isBlank()) {
+                        continue;
+                    }
+
+                    lineNumbers[records.size()] = lineNumber;
+                    records.add(line);
+
+                    if (records.size() == batchSize) {
+                        if (!put(lines, new Chunk(records, lineNumbers))) {
+                            return;
+                        }
+                        records = new ArrayList<>(batchSize);
+                        lineNumbers = new long[batchSize];
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+
+            if (!records.isEmpty() && !put(lines, new Chunk(records, lineNumbers))) {
+                return;
+            }
+
+            for (int i = 0; i < parserThreads; i++) {
+                put(lines, Chunk.END);
+            }
+        }
+
+        private void parse() {
+            Chunk chunk;
+            while ((chunk = take(lines)) != null && chunk != Chunk.END) {
+                List<RequestCreatePost> requests = new ArrayList<>(chunk.records.size());
+                long[] lineNumbers = new long[chunk.records.size()];
+
+                for (int i = 0; i < chunk.records.size(); i++) {
+                    List<ErrorResponse.FieldError> errors;
+                    try {
+                        RequestCreatePost request = reader.readValue((String) chunk.records.get(i));
+                        errors = request == null
+                                ? ErrorResponse.FieldError.of("", "", "empty record")
+                                : postService.validate(request);
+
+                        if (errors.isEmpty()) {
+                            lineNumbers[requests.size()] = chunk.lineNumbers[i];
+                            requests.add(request);
+                            continue;
+                        }
+                    } catch (JsonProcessingException e) {
+                        errors = ErrorResponse.FieldError.of("", "", e.getOriginalMessage());
+                    }
+
+                    reject(chunk.lineNumbers[i], errors);
+                }
+
+                if (!requests.isEmpty() && !put(parsed, new Chunk(requests, lineNumbers))) {
+                    return;
+                }
+            }
+
+            if (chunk != null) {
+                put(parsed, Chunk.END);
+            }
+        }
+
+        // 파싱 단계에서 걸러진 만큼 모자라는 건수를 채워 batch-size 단위로 저장한다
+        @SuppressWarnings("unchecked")
+        private void write() {
+            List<RequestCreatePost> pending = new ArrayList<>(batchSize);
+            long[] lineNumbers = new long[batchSize];
+            int finished = 0;
+
+            while (finished < parserThreads) {
+                Chunk chunk = take(parsed);
+                if (chunk == null) {
+                    return;
+                }
+                if (chunk == Chunk.END) {
+                    finished++;
+                    continue;
+                }
+
+                List<RequestCreatePost> requests = (List<RequestCreatePost>) chunk.records;
+                for (int i = 0; i < requests.size(); i++) {
+                    lineNumbers[pending.size()] = chunk.lineNumbers[i];
+                    pending.add(requests.get(i));
+
+                    if (pending.size() == batchSize) {
+                        save(pending, lineNumbers);
+                        pending.clear();
+                    }
+                }
+            }
+
+            if (!pending.isEmpty()) {
+                save(pending, lineNumbers);
+            }
+        }
+
+        private void save(List<RequestCreatePost> requests, long[] lineNumbers) {
+            for (PostBatchResultDto result : postService.saveAllValidated(requests)) {
+                if (result.isSuccess()) {
+                    accepted.incrementAndGet();
+                } else {
+                    reject(lineNumbers[result.getIndex()], result.getErrors());
+                }
+            }
+        }
+
+        private void reject(long lineNumber, List<ErrorResponse.FieldError> errors) {
+            rejected.incrementAndGet();
+            synchronized (rejections) {
+                if (rejections.size() < MAX_REJECTIONS) {
+                    rejections.add(new PostImportRejectionDto(lineNumber, errors));
+                }
+            }
+        }
+
+        // 다른 단계가 실패하면 기다리지 않고 false 를 돌려준다
+        private boolean put(BlockingQueue<Chunk> queue, Chunk chunk) {
+            try {
+                while (failure.get() == null) {
+                    if (queue.offer(chunk, POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                        return true;
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failure.compareAndSet(null, e);
+            }
+            return false;
+        }
+
+        private Chunk take(BlockingQueue<Chunk> queue) {
+            try {
+                while (failure.get() == null) {
+                    Chunk chunk = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                    if (chunk != null) {
+                        return chunk;
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failure.compareAndSet(null, e);
+            }
+            return null;
+        }
+
+        private void guard(Runnable stage) {
+            try {
+                stage.run();
+            } catch (Throwable e) {
+                failure.compareAndSet(null, e);
+            }
+        }
+    }
+}
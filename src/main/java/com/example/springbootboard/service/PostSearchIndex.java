@@ -0,0 +1,213 @@
+package com.example.springbootboard.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 게시물 제목/내용의 역색인. 검색은 게시물 테이블을 읽지 않고 여기서 순위를 매긴다
+@Component
+public class PostSearchIndex {
+
+    private static final int TITLE_WEIGHT = 3;
+    private static final int CONTENT_WEIGHT = 1;
+
+    // term -> (postId -> 가중 빈도)
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    // postId -> 필드별 term 빈도 (수정/삭제 시 이전 term 을 지우는 데 쓴다)
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void index(Long postId, String title, String content) {
+        Map<String, Integer> titleTerms = termFrequencies(title);
+        Map<String, Integer> contentTerms = termFrequencies(content);
+
+        lock.writeLock().lock();
+        try {
+            removeDocument(postId);
+            addDocument(postId, new Document(titleTerms, contentTerms));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // null 인 필드는 색인된 term 을 그대로 둔다 (부분 수정). 색인에 없는 게시물은 건너뛴다
+    public void update(Long postId, String title, String content) {
+        Map<String, Integer> titleTerms = title == null ? null : termFrequencies(title);
+        Map<String, Integer> contentTerms = content == null ? null : termFrequencies(content);
+
+        lock.writeLock().lock();
+        try {
+            Document previous = documents.get(postId);
+            if (previous == null) {
+                return;
+            }
+
+            removeDocument(postId);
+            addDocument(postId, new Document(
+                    titleTerms == null ? previous.getTitleTerms() : titleTerms,
+                    contentTerms == null ? previous.getContentTerms() : contentTerms));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long postId) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(postId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // TF-IDF 점수 내림차순, 같은 점수면 최신(큰 id) 순. offset 이 결과 수를 넘으면 빈 목록이다
+    public Hits search(String query, long offset, int limit) {
+        Set<String> terms = termFrequencies(query).keySet();
+
+        List<Map.Entry<Long, Double>> ranked;
+        lock.readLock().lock();
+        try {
+            Map<Long, Double> scores = new HashMap<>();
+            int documentCount = documents.size();
+
+            for (String term : terms) {
+                Map<Long, Integer> posting = postings.get(term);
+                if (posting == null) {
+                    continue;
+                }
+
+                double idf = Math.log(1 + (double) documentCount / posting.size());
+                posting.forEach((postId, frequency) -> scores.merge(postId, (1 + Math.log(frequency)) * idf, Double::sum));
+            }
+
+            ranked = new ArrayList<>(scores.entrySet());
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        ranked.sort(Map.Entry.<Long, Double>comparingByValue().reversed()
+                .thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder())));
+
+        List<Long> postIds = new ArrayList<>();
+        for (long i = offset; i < Math.min(ranked.size(), offset + limit); i++) {
+            postIds.add(ranked.get((int) i).getKey());
+        }
+
+        return new Hits(postIds, ranked.size());
+    }
+
+    private void addDocument(Long postId, Document document) {
+        documents.put(postId, document);
+
+        Map<String, Integer> weighted = new HashMap<>();
+        document.getTitleTerms().forEach((term, frequency) -> weighted.merge(term, frequency * TITLE_WEIGHT, Integer::sum));
+        document.getContentTerms().forEach((term, frequency) -> weighted.merge(term, frequency * CONTENT_WEIGHT, Integer::sum));
+        weighted.forEach((term, frequency) -> postings.computeIfAbsent(term, key -> new HashMap<>()).put(postId, frequency));
+    }
+
+    private void removeDocument(Long postId) {
+        Document document = documents.remove(postId);
+        if (document == null) {
+            return;
+        }
+
+        Set<String> terms = new HashSet<>(document.getTitleTerms().keySet());
+        terms.addAll(document.getContentTerms().keySet());
+
+        for (String term : terms) {
+            Map<Long, Integer> posting = postings.get(term);
+            posting.remove(postId);
+            if (posting.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+    }
+
+    // 글자/숫자가 아닌 문자로 나누고 소문자로 맞춘다
+    // 한글은 조사가 붙어 있어 단어 그대로는 잘 맞지 않으므로 2-gram 도 함께 색인한다
+    static Map<String, Integer> termFrequencies(String text) {
+        if (text == null || text.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String token : tokenize(text)) {
+            frequencies.merge(token, 1, Integer::sum);
+
+            if (token.length() > 2 && containsHangul(token)) {
+                for (int i = 0; i + 2 <= token.length(); i++) {
+                    frequencies.merge(token.substring(i, i + 2), 1, Integer::sum);
+                }
+            }
+        }
+        return frequencies;
+    }
+
+    private static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        StringBuilder token = new StringBuilder();
+
+        text.toLowerCase(Locale.ROOT).codePoints().forEach(codePoint -> {
+            if (Character.isLetterOrDigit(codePoint)) {
+                token.appendCodePoint(codePoint);
+            } else if (token.length() > 0) {
+                tokens.add(token.toString());
+                token.setLength(0);
+            }
+        });
+
+        if (token.length() > 0) {
+            tokens.add(token.toString());
+        }
+        return tokens;
+    }
+
+    private static boolean containsHangul(String token) {
+        return token.chars().anyMatch(c -> Character.UnicodeBlock.of(c) == Character.UnicodeBlock.HANGUL_SYLLABLES);
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class Document {
+        private final Map<String, Integer> titleTerms;
+        private final Map<String, Integer> contentTerms;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Hits {
+        private final List<Long> postIds;
+        private final int total;
+    }
+}
@@ -1,88 +1,519 @@
 package com.example.springbootboard.service;
 
+import com.example.springbootboard.config.MetricsConfig;
+import com.example.springbootboard.config.PrimaryReads;
 import com.example.springbootboard.domain.Post;
 import com.example.springbootboard.domain.Title;
-import com.example.springbootboard.domain.User;
+import com.example.springbootboard.dto.response.PostBatchResultDto;
+import com.example.springbootboard.dto.response.PostDeleteResultDto;
 import com.example.springbootboard.dto.response.PostDto;
+import com.example.springbootboard.dto.request.PageMode;
+import com.example.springbootboard.dto.request.PostCursor;
 import com.example.springbootboard.dto.request.RequestCreatePost;
+import com.example.springbootboard.dto.request.RequestDeletePosts;
+import com.example.springbootboard.dto.request.RequestPatchPost;
+import com.example.springbootboard.dto.request.RequestPagePost;
+import com.example.springbootboard.dto.request.RequestSearchPost;
 import com.example.springbootboard.dto.request.RequestUpdatePost;
 import com.example.springbootboard.dto.PagePostDto;
+import com.example.springbootboard.error.ErrorResponse;
+import com.example.springbootboard.error.exception.BusinessException;
 import com.example.springbootboard.error.exception.EntityNotFoundException;
+import com.example.springbootboard.error.exception.ErrorCode;
 import com.example.springbootboard.repository.PostRepository;
 import com.example.springbootboard.repository.UserRepository;
+import com.example.springbootboard.validation.RequestValidator;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.text.MessageFormat;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 
+@Slf4j
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 @Service
 public class PostService {
 
+    public static final String POST_CACHE = "post";
+    private static final int INDEX_CHUNK_SIZE = 500;
+    private static final int DELETE_CHUNK_SIZE = 500;
+
     private final PostRepository postRepository;
     private final UserRepository userRepository;
+    private final UserService userService;
+    private final PostCountCache postCountCache;
+    private final PostCache postCache;
+    private final RequestValidator requestValidator;
+    private final PostSearchIndex searchIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
+    // 작성자는 게시물 트랜잭션을 열기 전에 정한다 (UserService.findOrCreate)
+    // 트랜잭션 안에서 정하면 새 작성자 저장이 커넥션을 하나 더 잡아, 풀 크기만큼 동시에 들어오면 서로 기다리다 시간 초과로 끝난다
+    @Timed(MetricsConfig.SERVICE_TIMER)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Long save(RequestCreatePost request) {
 
-        User user = request.getUserDto().toEntity();
-        userRepository.save(user);
+        Long userId = userService.findOrCreate(request.getUserDto());
+
+        return transactionTemplate.execute(status -> {
+            Post post = postRepository.save(request.toEntity(userRepository.getById(userId)));
+            TransactionCallbacks.afterCommit(() -> {
+                postCountCache.increment(1);
+                index(post);
+                eventPublisher.publishEvent(new PostChangedEvent(List.of()));
+            });
+
+            return post.getId();
+        });
+    }
+
+    // 검증에 실패한 항목은 건너뛰고 나머지를 한 트랜잭션에서 저장한다 (hibernate.jdbc.batch_size 단위로 insert 배치)
+    // 작성자는 save 와 같이 트랜잭션을 열기 전에 정한다
+    @Timed(MetricsConfig.SERVICE_TIMER)
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<PostBatchResultDto> saveAll(List<RequestCreatePost> requests) {
+        return saveAll(requests, true);
+    }
+
+    // validate 를 이미 통과한 요청만 저장한다 (PostImporter 는 파싱 스레드에서 검증한다)
+    @Timed(MetricsConfig.SERVICE_TIMER)
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<PostBatchResultDto> saveAllValidated(List<RequestCreatePost> requests) {
+        return saveAll(requests, false);
+    }
+
+    private List<PostBatchResultDto> saveAll(List<RequestCreatePost> requests, boolean validate) {
+        PostBatchResultDto[] results = new PostBatchResultDto[requests.size()];
+        List<Integer> indexes = new ArrayList<>(requests.size());
+        List<Long> userIds = new ArrayList<>(requests.size());
+        Map<String, Long> authors = new HashMap<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            RequestCreatePost request = requests.get(i);
+            // {"posts":[null]} 은 @NotEmpty, @Size 를 통과하므로 PostImporter 의 빈 줄처럼 항목 실패로 돌려준다
+            if (request == null) {
+                results[i] = PostBatchResultDto.failure(i, ErrorResponse.FieldError.of("", "", "empty record"));
+                continue;
+            }
+
+            List<ErrorResponse.FieldError> errors = validate ? validate(request) : List.of();
+
+            if (errors.isEmpty()) {
+                try {
+                    userIds.add(authors.computeIfAbsent(request.getUserDto().getName(), name -> userService.findOrCreate(request.getUserDto())));
+                    indexes.add(i);
+                    continue;
+                } catch (IllegalArgumentException e) {
+                    errors = ErrorResponse.FieldError.of("", "", e.getMessage());
+                }
+            }
 
-        Post post = postRepository.save(request.toEntity(user));
+            results[i] = PostBatchResultDto.failure(i, errors);
+        }
 
-        return post.getId();
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Post> posts = new ArrayList<>(indexes.size());
+            List<Integer> saved = new ArrayList<>(indexes.size());
+
+            for (int i = 0; i < indexes.size(); i++) {
+                int index = indexes.get(i);
+                try {
+                    posts.add(requests.get(index).toEntity(userRepository.getById(userIds.get(i))));
+                    saved.add(index);
+                } catch (IllegalArgumentException e) {
+                    results[index] = PostBatchResultDto.failure(index, ErrorResponse.FieldError.of("", "", e.getMessage()));
+                }
+            }
+
+            postRepository.saveAll(posts);
+
+            for (int i = 0; i < posts.size(); i++) {
+                int index = saved.get(i);
+                results[index] = PostBatchResultDto.success(index, posts.get(i).getId());
+            }
+
+            TransactionCallbacks.afterCommit(() -> {
+                postCountCache.increment(posts.size());
+                posts.forEach(this::index);
+                eventPublisher.publishEvent(new PostChangedEvent(List.of()));
+            });
+        });
+
+        return List.of(results);
     }
 
+    // 검증만 하므로 커넥션을 잡지 않는다 (PostImporter 파싱 스레드에서 호출)
+    @Timed(MetricsConfig.SERVICE_TIMER)
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<ErrorResponse.FieldError> validate(RequestCreatePost request) {
+        List<ErrorResponse.FieldError> errors = new ArrayList<>(ErrorResponse.FieldError.of("", requestValidator.validate(request)));
+
+        if (request.getUserDto() != null) {
+            errors.addAll(ErrorResponse.FieldError.of("user.", requestValidator.validate(request.getUserDto())));
+        }
+
+        return errors;
+    }
+
+    @Timed(MetricsConfig.SERVICE_TIMER)
     @Transactional
     public Long update(Long id, RequestUpdatePost request) {
 
         Post post = postRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException(MessageFormat.format("There is no post. id = {0}", id)));
+                .orElseThrow(() -> new EntityNotFoundException("post", id));
 
         post.update(new Title(request.getTitle()), request.getContent());
+        evictPost(id);
+        TransactionCallbacks.afterCommit(() -> {
+            index(post);
+            eventPublisher.publishEvent(new PostChangedEvent(List.of(id)));
+        });
 
         return id;
     }
 
+    // 엔티티(@Lob content 포함)를 읽지 않고 update 한 번으로 바꾼다. 바뀐 행이 없으면 없는 게시물이다
+    @Timed(MetricsConfig.SERVICE_TIMER)
+    @Transactional
+    public Long patch(Long id, RequestPatchPost request) {
+        if (request.isEmpty()) {
+            throw new BusinessException("Nothing to update. id = " + id, ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        Post.validatePatch(request.getTitle() == null ? null : new Title(request.getTitle()), request.getContent());
+
+        int updated = postRepository.patch(id, request.getTitle(), request.getContent(), LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+        if (updated == 0) {
+            throw new EntityNotFoundException("post", id);
+        }
+
+        evictPost(id);
+        TransactionCallbacks.afterCommit(() -> {
+            searchIndex.update(id, request.getTitle(), request.getContent());
+            eventPublisher.publishEvent(new PostChangedEvent(List.of(id)));
+        });
+
+        return id;
+    }
+
+    // 크기/TTL 은 spring.cache.caffeine.spec, hit/miss/eviction 은 /actuator/metrics/cache.* 로 확인한다
+    // 캐시 히트 시 커넥션을 잡지 않도록 트랜잭션을 열지 않고, 없을 때만 findById 가 자기 트랜잭션으로 읽는다
+    // 캐시를 채우는 읽기이므로 replica 가 있어도 primary 에서 읽는다
+    @Timed(MetricsConfig.SERVICE_TIMER)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public PostDto findOne(Long postId) {
+        PostDto cached = postCache.get(postId);
+        if (cached != null) {
+            return cached;
+        }
 
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new EntityNotFoundException(MessageFormat.format("There is no post. id = {0}", postId)));
+        long started = postCache.generation();
+        Post post = PrimaryReads.call(() -> postRepository.findById(postId))
+                .orElseThrow(() -> new EntityNotFoundException("post", postId));
 
-        return toDto(post);
+        PostDto postDto = toDto(post);
+        postCache.put(postId, postDto, started);
+        return postDto;
     }
 
 
+    @Timed(MetricsConfig.SERVICE_TIMER)
+    public PagePostDto findAll(RequestPagePost request) {
+        if (request.isCursorMode()) {
+            return findAllByCursor(request.cursor(), request.getSize(), request.direction());
+        }
+
+        if (request.isSummaryView()) {
+            return findSummaries(request.of(), request.mode(), request.getExcerpt());
+        }
+
+        switch (request.mode()) {
+            case SLICE:
+                return findSlice(request.of());
+            case ESTIMATE:
+                return findAllEstimated(request.of());
+            default:
+                return findAll(request.of());
+        }
+    }
+
+    // 목록용 projection. excerptLength 가 0 이면 content 컬럼을 아예 조회하지 않는다
+    @Timed(MetricsConfig.SERVICE_TIMER)
+    public PagePostDto findSummaries(Pageable pageable, PageMode mode, int excerptLength) {
+        if (mode == PageMode.PAGE) {
+            Page<PostDto> result = excerptLength > 0
+                    ? postRepository.findExcerptPage(excerptLength, pageable)
+                    : postRepository.findSummaryPage(pageable);
+
+            return toDto(result);
+        }
+
+        Slice<PostDto> result = excerptLength > 0
+                ? postRepository.findExcerptSlice(excerptLength, pageable)
+                : postRepository.findSummarySlice(pageable);
+
+        return toDto(result, mode == PageMode.ESTIMATE ? postCountCache.get() : null);
+    }
+
+    @Timed(MetricsConfig.SERVICE_TIMER)
     public PagePostDto findAll(Pageable pageable) {
         Page<PostDto> result = postRepository.findAll(pageable)
-                .map(this::toDto);
+                .map(PostService::toDto);
 
         return toDto(result);
     }
 
+    @Timed(MetricsConfig.SERVICE_TIMER)
+    public PagePostDto findSlice(Pageable pageable) {
+        Slice<Post> result = postRepository.findSliceBy(pageable);
+
+        return toDto(result.map(PostService::toDto), null);
+    }
+
+    @Timed(MetricsConfig.SERVICE_TIMER)
+    public PagePostDto findAllEstimated(Pageable pageable) {
+        Slice<Post> result = postRepository.findSliceBy(pageable);
+
+        return toDto(result.map(PostService::toDto), postCountCache.get());
+    }
+
+    // (createdAt, postId) 기준 keyset 페이징. offset 을 쓰지 않으므로 페이지 깊이와 무관하게 인덱스만 탐색한다
+    @Timed(MetricsConfig.SERVICE_TIMER)
+    public PagePostDto findAllByCursor(PostCursor cursor, int size, Sort.Direction direction) {
+        boolean forward = cursor == null || cursor.isNext();
+        boolean ascending = direction.isAscending() == forward;
+        PageRequest limit = PageRequest.of(0, size + 1);
+
+        List<Post> result;
+        if (cursor == null) {
+            result = postRepository.findAllBy(limit.withSort(Sort.by(direction, "createdAt", "id")));
+        } else if (ascending) {
+            result = postRepository.findAllAfter(cursor.getCreatedAt(), cursor.getPostId(), limit);
+        } else {
+            result = postRepository.findAllBefore(cursor.getCreatedAt(), cursor.getPostId(), limit);
+        }
+
+        boolean hasMore = result.size() > size;
+        List<Post> posts = hasMore ? result.subList(0, size) : result;
+
+        if (!forward) {
+            posts = new ArrayList<>(posts);
+            Collections.reverse(posts);
+        }
+
+        boolean hasNext = !forward || hasMore;
+        boolean hasPrev = forward ? cursor != null : hasMore;
+
+        return toDto(posts, hasNext, hasPrev);
+    }
 
 
+
+    // 순위는 색인에서 매기고, 결과 게시물은 캐시에 없는 것만 한 번에 조회한다
+    @Timed(MetricsConfig.SERVICE_TIMER)
+    public PagePostDto search(RequestSearchPost request) {
+        PostSearchIndex.Hits hits = searchIndex.search(request.getQ(), request.offset(), request.getSize());
+
+        Map<Long, PostDto> found = new HashMap<>();
+        List<Long> missed = new ArrayList<>();
+        for (Long postId : hits.getPostIds()) {
+            PostDto cached = postCache.get(postId);
+            if (cached != null) {
+                found.put(postId, cached);
+            } else {
+                missed.add(postId);
+            }
+        }
+
+        if (!missed.isEmpty()) {
+            found.putAll(postRepository.findAllById(missed).stream()
+                    .map(PostService::toDto)
+                    .collect(Collectors.toMap(PostDto::getPostId, Function.identity())));
+        }
+
+        // 색인 반영 전에 삭제된 게시물은 결과에서 뺀다
+        List<PostDto> posts = hits.getPostIds().stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+
+        int totalPages = (hits.getTotal() + request.getSize() - 1) / request.getSize();
+
+        return PagePostDto.builder()
+                .posts(posts)
+                .page(request.getPage() - 1)
+                .size(posts.size())
+                .first(request.getPage() == 1)
+                .last(request.getPage() >= totalPages)
+                .totalElements((long) hits.getTotal())
+                .totalPages(totalPages)
+                .build();
+    }
+
+    // 전체 게시물을 id 순으로 한 건씩 넘긴다. 커서가 열려 있는 동안 트랜잭션을 유지해야 하므로 여기서 소비한다
+    @Timed(MetricsConfig.SERVICE_TIMER)
+    public long exportAll(Consumer<PostDto> consumer) {
+        long count = 0;
+        try (Stream<PostDto> posts = postRepository.streamAll()) {
+            for (Iterator<PostDto> iterator = posts.iterator(); iterator.hasNext(); count++) {
+                consumer.accept(iterator.next());
+            }
+        }
+        return count;
+    }
+
+    // 기동 시 id 순으로 나눠 읽어 색인을 만든다. 이후로는 저장/수정/삭제 커밋마다 갱신된다
+    @Timed(MetricsConfig.SERVICE_TIMER)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildSearchIndex() {
+        searchIndex.clear();
+
+        List<PostDto> chunk = postRepository.findAllAfterId(0L, PageRequest.of(0, INDEX_CHUNK_SIZE));
+        while (!chunk.isEmpty()) {
+            chunk.forEach(post -> searchIndex.index(post.getPostId(), post.getTitle(), post.getContent()));
+            Long lastId = chunk.get(chunk.size() - 1).getPostId();
+            chunk = postRepository.findAllAfterId(lastId, PageRequest.of(0, INDEX_CHUNK_SIZE));
+        }
+
+        log.info("search index built. posts = {}", searchIndex.size());
+    }
+
+    // deleteById 와 달리 먼저 select 하지 않고 delete 한 번으로 지운다. 지운 행이 없으면 없는 게시물이다
+    @Timed(MetricsConfig.SERVICE_TIMER)
     @Transactional
     public void delete(Long postId) {
-        postRepository.deleteById(postId);
+        if (postRepository.deleteOne(postId) == 0) {
+            throw new EntityNotFoundException("post", postId);
+        }
+
+        evictPost(postId);
+        TransactionCallbacks.afterCommit(() -> {
+            postCountCache.increment(-1);
+            searchIndex.remove(postId);
+            eventPublisher.publishEvent(new PostChangedEvent(List.of(postId)));
+        });
+    }
+
+    // id 목록 또는 한 사용자의 게시물 전부를 DELETE_CHUNK_SIZE 개씩 delete ... in (...) 으로 지운다
+    // 묶음마다 트랜잭션을 따로 열어 잠금과 undo 가 한 번에 커지지 않게 한다. 중간에 실패하면 앞 묶음은 지워진 채로 남는다
+    @Timed(MetricsConfig.SERVICE_TIMER)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public PostDeleteResultDto deleteAll(RequestDeletePosts request) {
+        if ((request.getPostIds() == null) == (request.getUserName() == null)) {
+            throw new BusinessException("Either postIds or userName is required", ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        long started = System.nanoTime();
+        long deleted = 0;
+        int chunks = 0;
+
+        if (request.isByUser()) {
+            Long userId = userRepository.findIdByName(request.getUserName())
+                    .orElseThrow(() -> new EntityNotFoundException("user", request.getUserName()));
+
+            // 지운 만큼 앞에서부터 다시 읽으므로 offset 은 늘 0 이다
+            while (true) {
+                int removed = transactionTemplate.execute(status ->
+                        deleteChunk(postRepository.findIdsByUserId(userId, PageRequest.of(0, DELETE_CHUNK_SIZE))));
+                if (removed == 0) {
+                    break;
+                }
+                deleted += removed;
+                chunks++;
+            }
+        } else {
+            List<Long> postIds = request.getPostIds().stream()
+                    .filter(Objects::nonNull)
+                    .distinct()
+                    .collect(Collectors.toList());
+
+            for (int from = 0; from < postIds.size(); from += DELETE_CHUNK_SIZE) {
+                List<Long> chunk = postIds.subList(from, Math.min(postIds.size(), from + DELETE_CHUNK_SIZE));
+                deleted += transactionTemplate.execute(status -> deleteChunk(chunk));
+                chunks++;
+            }
+        }
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        log.info("posts deleted. deleted = {}, chunks = {}, elapsed = {}ms", deleted, chunks, elapsedMillis);
+
+        return PostDeleteResultDto.builder()
+                .deleted(deleted)
+                .chunks(chunks)
+                .elapsedMillis(elapsedMillis)
+                .build();
     }
 
-    private PostDto toDto(Post post) {
+    private int deleteChunk(List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return 0;
+        }
+
+        int deleted = postRepository.deleteAllByIds(postIds);
+
+        postIds.forEach(this::evictPost);
+        TransactionCallbacks.afterCommit(() -> {
+            postCountCache.increment(-deleted);
+            postIds.forEach(searchIndex::remove);
+            eventPublisher.publishEvent(new PostChangedEvent(postIds));
+        });
+
+        return deleted;
+    }
+
+    private void evictPost(Long postId) {
+        postCache.evict(postId);
+    }
+
+    private void index(Post post) {
+        searchIndex.index(post.getId(), post.getTitle().getTitle(), post.getContent());
+    }
+
+    //== 변환 (src/benchmark 의 PostServiceJmh 에서 직접 호출한다) ==//
+    static PostDto toDto(Post post) {
         return PostDto.builder()
                 .createdAt(post.getCreatedAt())
                 .createdBy(post.getCreatedBy())
                 .postId(post.getId())
                 .title(post.getTitle().getTitle())
                 .content(post.getContent())
+                .modifiedAt(post.getModifiedAt())
+                .version(post.getVersion())
+                .viewCount(post.getViewCount())
+                .viewsFlushedAt(post.getViewsFlushedAt())
                 .build();
     }
 
-    private PagePostDto toDto(Page<PostDto> result) {
+    static PagePostDto toDto(Page<PostDto> result) {
         return PagePostDto.builder()
                 .posts(result.getContent())
                 .page(result.getNumber())
@@ -92,5 +523,38 @@ public class PostService {
                 .totalElements(result.getTotalElements())
                 .totalPages(result.getTotalPages()).build();
     }
+
+    static PagePostDto toDto(Slice<PostDto> result, Long estimatedTotal) {
+        return PagePostDto.builder()
+                .posts(result.getContent())
+                .page(result.getNumber())
+                .size(result.getNumberOfElements())
+                .first(result.isFirst())
+                .last(result.isLast())
+                .totalElements(estimatedTotal)
+                .totalPages(estimatedTotal == null ? null : (int) ((estimatedTotal + result.getSize() - 1) / result.getSize()))
+                .build();
+    }
+
+    static PagePostDto toDto(List<Post> posts, boolean hasNext, boolean hasPrev) {
+        String nextCursor = null;
+        String prevCursor = null;
+
+        if (!posts.isEmpty()) {
+            Post head = posts.get(0);
+            Post tail = posts.get(posts.size() - 1);
+            nextCursor = hasNext ? PostCursor.next(tail.getCreatedAt(), tail.getId()).encode() : null;
+            prevCursor = hasPrev ? PostCursor.prev(head.getCreatedAt(), head.getId()).encode() : null;
+        }
+
+        return PagePostDto.builder()
+                .posts(posts.stream().map(PostService::toDto).collect(Collectors.toList()))
+                .size(posts.size())
+                .first(prevCursor == null)
+                .last(nextCursor == null)
+                .nextCursor(nextCursor)
+                .prevCursor(prevCursor)
+                .build();
+    }
 }
 
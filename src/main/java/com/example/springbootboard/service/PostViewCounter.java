@@ -0,0 +1,86 @@
+package com.example.springbootboard.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// 게시물 조회 수. 조회마다 update 하지 않고 게시물별 LongAdder 에 모았다가 flush-interval 마다 한 번의 batch update 로 더한다
+// LongAdder 는 경합이 생기면 셀을 나눠 더하므로 인기 게시물에 조회가 몰려도 요청 스레드끼리 기다리지 않는다
+// DB 의 view_count 는 최대 flush-interval 만큼 늦고, 비정상 종료하면 마지막 flush 이후의 조회는 잃는다
+// flush 는 post 캐시와 ResponseBodyCache 를 비우지 않는다. 비우면 조회가 몰리는 게시물의 캐시가 flush 마다 사라진다
+// 그래서 캐시된 응답의 viewCount 는 flush-interval 에 캐시 수명(expireAfterWrite, 기본 10m)까지 더한 만큼 늦을 수 있다
+// 더할 때 views_flushed_at 도 바꿔, modifiedAt 이 그대로여도 단건 조회의 Last-Modified 가 조회 수를 따라간다
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class PostViewCounter {
+
+    private static final String ADD_VIEW_COUNT = "update post set view_count = view_count + ?, views_flushed_at = ? where post_id = ?";
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    // 이미 있는 게시물은 get 만으로 끝나 computeIfAbsent 의 bin 잠금을 타지 않는다
+    public void increment(Long postId) {
+        LongAdder adder = pending.get(postId);
+        if (adder == null) {
+            adder = pending.computeIfAbsent(postId, id -> new LongAdder());
+        }
+        adder.increment();
+    }
+
+    // 종료할 때도 남은 조회 수를 쓴다
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${board.view-count.flush-interval:5000}")
+    public synchronized void flush() {
+        List<Object[]> deltas = new ArrayList<>();
+
+        // sumThenReset 은 그 사이의 increment 를 잃을 수 있어, 읽은 만큼만 뺀다
+        // 지난 flush 이후 조회가 없던 게시물은 지운다. 지우는 순간 옛 LongAdder 에 더해진 조회는 잃을 수 있다
+        pending.forEach((postId, adder) -> {
+            long delta = adder.sum();
+            if (delta == 0) {
+                pending.remove(postId, adder);
+                return;
+            }
+            adder.add(-delta);
+            deltas.add(new Object[]{delta, postId});
+        });
+
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        Timestamp flushedAt = Timestamp.valueOf(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(ADD_VIEW_COUNT, deltas, BATCH_SIZE, (ps, delta) -> {
+                        ps.setLong(1, (Long) delta[0]);
+                        ps.setTimestamp(2, flushedAt);
+                        ps.setLong(3, (Long) delta[1]);
+                    }));
+        } catch (RuntimeException e) {
+            // 다음 flush 에서 다시 쓴다
+            deltas.forEach(delta -> pending.computeIfAbsent((Long) delta[1], id -> new LongAdder()).add((Long) delta[0]));
+            log.warn("view count flush failed. posts = {}, cause = {}", deltas.size(), e.toString());
+            return;
+        }
+
+        log.debug("view count flushed. posts = {}", deltas.size());
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.springbootboard.service;
+
+import com.example.springbootboard.dto.PagePostDto;
+import com.example.springbootboard.dto.request.PageMode;
+import com.example.springbootboard.dto.request.RequestPagePost;
+import com.example.springbootboard.dto.response.PostDto;
+import com.example.springbootboard.error.exception.BusinessException;
+import com.example.springbootboard.error.exception.EntityNotFoundException;
+import com.example.springbootboard.error.exception.ErrorCode;
+import com.example.springbootboard.repository.ReactivePostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+
+// PostService.findOne/findAll 의 논블로킹 버전. 응답 모양(PostDto, PagePostDto)은 같다
+// 쓰기는 PostService 만 하므로 트랜잭션이 없다
+@RequiredArgsConstructor
+@Service
+public class ReactivePostService {
+
+    private final ReactivePostRepository reactivePostRepository;
+    private final PostCache postCache;
+
+    // PostService.findOne 과 같은 "post" 캐시를 같은 규칙(PostCache)으로 채운다. 수정/삭제 시 PostService 가 비운다
+    // 세대는 구독할 때 읽어야 그 뒤의 비우기와 겹친 값을 거를 수 있다
+    public Mono<PostDto> findOne(Long postId) {
+        PostDto cached = postCache.get(postId);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+
+        return Mono.defer(() -> {
+            long started = postCache.generation();
+            return reactivePostRepository.findById(postId)
+                    .switchIfEmpty(Mono.error(() -> new EntityNotFoundException("post", postId)))
+                    .doOnNext(post -> postCache.put(postId, post, started));
+        });
+    }
+
+    // PAGE 모드(offset + count)의 전체 보기만 지원한다. 목록 조회와 count 는 동시에 실행한다
+    // 커서, summary, SLICE/ESTIMATE 를 무시하면 같은 쿼리 스트링에 /api/v1/posts 와 다른 페이지를 주므로 400 으로 거절한다
+    public Mono<PagePostDto> findAll(RequestPagePost request) {
+        if (request.isCursorMode() || request.isSummaryView() || request.mode() != PageMode.PAGE) {
+            return Mono.error(new BusinessException("Unsupported parameter. cursor, view=summary and mode other than page are only supported by /api/v1/posts",
+                    ErrorCode.INVALID_INPUT_VALUE));
+        }
+
+        // 잘못된 page/size 는 PostService 와 같이 PageRequest 가 거른다
+        PageRequest pageable = request.of();
+        int size = pageable.getPageSize();
+        int page = pageable.getPageNumber();
+
+        return Mono.zip(
+                reactivePostRepository.findPage(request.direction(), pageable.getOffset(), size).collectList(),
+                reactivePostRepository.count())
+                .map(result -> {
+                    long total = result.getT2();
+                    int totalPages = (int) ((total + size - 1) / size);
+
+                    return PagePostDto.builder()
+                            .posts(result.getT1())
+                            .page(page)
+                            .size(result.getT1().size())
+                            .first(page == 0)
+                            .last(page + 1 >= totalPages)
+                            .totalElements(total)
+                            .totalPages(totalPages)
+                            .build();
+                });
+    }
+
+    public Flux<PostDto> streamAll() {
+        return reactivePostRepository.streamAll();
+    }
+}
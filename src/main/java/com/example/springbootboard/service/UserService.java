@@ -0,0 +1,49 @@
+package com.example.springbootboard.service;
+
+import com.example.springbootboard.config.PrimaryReads;
+import com.example.springbootboard.dto.UserDto;
+import com.example.springbootboard.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@RequiredArgsConstructor
+@Service
+public class UserService {
+
+    public static final String AUTHOR_CACHE = "author";
+
+    private final UserRepository userRepository;
+
+    // 게시물 트랜잭션을 열기 전에 부른다. 조회와 저장은 각자 짧은 트랜잭션에서 커넥션을 하나만 잡았다 돌려준다
+    // 호출한 쪽 트랜잭션이 있으면 멈춰 두므로 다시 읽을 때 그 트랜잭션의 스냅샷(REPEATABLE READ)에 가리지 않는다
+    // 이름 -> id 는 캐시되어 같은 작성자의 다음 게시물부터는 사용자 조회/저장 쿼리가 나가지 않는다
+    @Cacheable(cacheNames = AUTHOR_CACHE, key = "#userDto.name")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Long findOrCreate(UserDto userDto) {
+        return findIdByName(userDto.getName())
+                .orElseGet(() -> create(userDto));
+    }
+
+    // 새 작성자의 첫 게시물이 동시에 들어오면 uk_user_name 에 걸리는 쪽이 생긴다
+    // 저장이 자기 트랜잭션으로 롤백된 뒤 새 트랜잭션에서 먼저 커밋된 id 를 다시 읽는다
+    // 게시물이 롤백돼도 작성자는 남는다
+    private Long create(UserDto userDto) {
+        try {
+            return userRepository.saveAndFlush(userDto.toEntity()).getId();
+        } catch (DataIntegrityViolationException e) {
+            return findIdByName(userDto.getName())
+                    .orElseThrow(() -> e);
+        }
+    }
+
+    // 캐시를 채우는 읽기이고 방금 커밋된 작성자를 봐야 하므로 replica 가 있어도 primary 에서 읽는다
+    private Optional<Long> findIdByName(String name) {
+        return PrimaryReads.call(() -> userRepository.findIdByName(name));
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.springbootboard.validation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 컴파일 시 필드의 javax.validation 제약으로 <클래스명>Validator 를 생성한다 (validation.processor.ValidatorProcessor)
+// 지원하지 않는 제약이 있으면 생성하지 않고 Bean Validation 으로 검증한다
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface GenerateValidator {
+}
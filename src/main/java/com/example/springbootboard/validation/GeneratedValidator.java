@@ -0,0 +1,12 @@
+package com.example.springbootboard.validation;
+
+import java.util.List;
+
+// 생성된 검증기는 META-INF/services 에 등록되고 RequestValidator 가 ServiceLoader 로 읽는다
+public interface GeneratedValidator<T> {
+
+    Class<T> type();
+
+    // 위반이 없으면 빈 리스트(Collections.emptyList())를 돌려준다
+    List<Violation> validate(T target);
+}
@@ -0,0 +1,58 @@
+package com.example.springbootboard.validation;
+
+import org.springframework.stereotype.Component;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// 생성된 검증기가 있으면 그것으로, 없으면 Bean Validation 으로 검증한다
+@Component
+public class RequestValidator {
+
+    private final Map<Class<?>, GeneratedValidator<?>> validators = new HashMap<>();
+    private final Validator fallback;
+
+    public RequestValidator(Validator fallback) {
+        this.fallback = fallback;
+
+        for (GeneratedValidator<?> validator : ServiceLoader.load(GeneratedValidator.class, RequestValidator.class.getClassLoader())) {
+            validators.put(validator.type(), validator);
+        }
+    }
+
+    public boolean isGenerated(Class<?> type) {
+        return validators.containsKey(type);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> List<Violation> validate(T target) {
+        if (target == null) {
+            return Collections.emptyList();
+        }
+
+        GeneratedValidator<T> validator = (GeneratedValidator<T>) validators.get(target.getClass());
+        if (validator != null) {
+            return validator.validate(target);
+        }
+
+        Set<ConstraintViolation<T>> violations = fallback.validate(target);
+        if (violations.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        return violations.stream()
+                .map(violation -> new Violation(
+                        violation.getPropertyPath().toString(),
+                        violation.getInvalidValue(),
+                        violation.getConstraintDescriptor().getAnnotation().annotationType().getSimpleName(),
+                        violation.getMessage()))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.springbootboard.validation;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.validation.Errors;
+import org.springframework.validation.SmartValidator;
+
+// @Valid 요청 본문/파라미터 검증을 생성된 검증기로 돌린다. 검증 그룹(hints)이 있으면 Bean Validation 에 맡긴다
+@RequiredArgsConstructor
+public class RequestValidatorAdapter implements SmartValidator {
+
+    private final RequestValidator requestValidator;
+    private final SmartValidator delegate;
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return requestValidator.isGenerated(clazz) || delegate.supports(clazz);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors) {
+        if (!requestValidator.isGenerated(target.getClass())) {
+            delegate.validate(target, errors);
+            return;
+        }
+
+        for (Violation violation : requestValidator.validate(target)) {
+            errors.rejectValue(violation.getField(), violation.getConstraint(), violation.getMessage());
+        }
+    }
+
+    @Override
+    public void validate(Object target, Errors errors, Object... validationHints) {
+        if (validationHints.length > 0) {
+            delegate.validate(target, errors, validationHints);
+            return;
+        }
+
+        validate(target, errors);
+    }
+
+    @Override
+    public void validateValue(Class<?> targetType, String fieldName, Object value, Errors errors, Object... validationHints) {
+        delegate.validateValue(targetType, fieldName, value, errors, validationHints);
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.springbootboard.validation;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@RequiredArgsConstructor
+public class Violation {
+    private final String field;
+    private final Object invalidValue;
+    private final String constraint;
+    private final String message;
+
+    // 생성된 검증기에서 쓴다. 위반이 생겼을 때만 리스트를 만든다
+    public static List<Violation> add(List<Violation> violations, String field, Object invalidValue, String constraint, String message) {
+        List<Violation> result = violations == null ? new ArrayList<>(2) : violations;
+        result.add(new Violation(field, invalidValue, constraint, message));
+        return result;
+    }
+
+    // @NotBlank 와 같은 기준 (trim 후 길이 0). 문자열을 새로 만들지 않는다
+    public static boolean isBlank(CharSequence value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
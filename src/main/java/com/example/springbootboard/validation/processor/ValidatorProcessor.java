@@ -0,0 +1,361 @@
+package com.example.springbootboard.validation.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+// @GenerateValidator 클래스의 필드 제약을 읽어 리플렉션 없는 검증기를 생성한다
+// 이 패키지는 본 컴파일보다 먼저(-proc:none) 컴파일되므로 애플리케이션 클래스를 참조하지 않는다 (pom.xml 참고)
+@SupportedAnnotationTypes(ValidatorProcessor.GENERATE_VALIDATOR)
+public class ValidatorProcessor extends AbstractProcessor {
+
+    static final String GENERATE_VALIDATOR = "com.example.springbootboard.validation.GenerateValidator";
+    private static final String GENERATED_VALIDATOR = "com.example.springbootboard.validation.GeneratedValidator";
+    private static final String VIOLATION = "com.example.springbootboard.validation.Violation";
+    private static final String CONSTRAINTS = "javax.validation.constraints.";
+    private static final String VALID = "javax.validation.Valid";
+
+    private final Set<String> generated = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeServiceFile();
+            return false;
+        }
+
+        TypeElement annotation = processingEnv.getElementUtils().getTypeElement(GENERATE_VALIDATOR);
+        if (annotation == null) {
+            return false;
+        }
+
+        for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+            if (element.getKind() == ElementKind.CLASS) {
+                generate((TypeElement) element);
+            }
+        }
+        return true;
+    }
+
+    private void generate(TypeElement type) {
+        List<String> checks = new ArrayList<>();
+        List<String> patterns = new ArrayList<>();
+
+        for (VariableElement field : fields(type)) {
+            FieldChecks fieldChecks = new FieldChecks(field, patterns.size());
+            for (AnnotationMirror mirror : field.getAnnotationMirrors()) {
+                String unsupported = fieldChecks.add(mirror);
+                if (unsupported != null) {
+                    processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                            "Validator not generated, falls back to Bean Validation: " + unsupported, field);
+                    return;
+                }
+            }
+            checks.add(fieldChecks.code());
+            patterns.addAll(fieldChecks.patterns);
+        }
+
+        String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        String targetName = type.getQualifiedName().toString();
+        String validatorName = validatorName(type);
+
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(packageName + "." + validatorName, type);
+            try (Writer writer = file.openWriter()) {
+                writer.write(source(packageName, targetName, validatorName, checks, patterns));
+            }
+            generated.add(packageName + "." + validatorName);
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Failed to generate validator: " + e.getMessage(), type);
+        }
+    }
+
+    // 상위 클래스의 필드까지 선언 순서대로
+    private List<VariableElement> fields(TypeElement type) {
+        List<VariableElement> fields = new ArrayList<>();
+        TypeMirror current = type.asType();
+
+        while (current.getKind() == TypeKind.DECLARED) {
+            TypeElement element = (TypeElement) ((DeclaredType) current).asElement();
+            if (element.getQualifiedName().contentEquals("java.lang.Object")) {
+                break;
+            }
+
+            List<VariableElement> declared = new ArrayList<>();
+            for (VariableElement field : ElementFilter.fieldsIn(element.getEnclosedElements())) {
+                if (!field.getModifiers().contains(Modifier.STATIC)) {
+                    declared.add(field);
+                }
+            }
+            fields.addAll(0, declared);
+            current = element.getSuperclass();
+        }
+        return fields;
+    }
+
+    private String validatorName(TypeElement type) {
+        StringBuilder name = new StringBuilder(type.getSimpleName());
+        Element enclosing = type.getEnclosingElement();
+        while (!(enclosing instanceof PackageElement)) {
+            name.insert(0, enclosing.getSimpleName() + "_");
+            enclosing = enclosing.getEnclosingElement();
+        }
+        return name.append("Validator").toString();
+    }
+
+    private String source(String packageName, String targetName, String validatorName, List<String> checks, List<String> patterns) {
+        StringBuilder source = new StringBuilder();
+        source.append("package ").append(packageName).append(";\n\n")
+                .append("@javax.annotation.processing.Generated(\"").append(ValidatorProcessor.class.getName()).append("\")\n")
+                .append("public final class ").append(validatorName)
+                .append(" implements ").append(GENERATED_VALIDATOR).append("<").append(targetName).append("> {\n\n");
+
+        for (int i = 0; i < patterns.size(); i++) {
+            source.append("    private static final java.util.regex.Pattern PATTERN_").append(i)
+                    .append(" = java.util.regex.Pattern.compile(").append(literal(patterns.get(i))).append(");\n");
+        }
+
+        source.append("\n    @Override\n")
+                .append("    public Class<").append(targetName).append("> type() {\n")
+                .append("        return ").append(targetName).append(".class;\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public java.util.List<").append(VIOLATION).append("> validate(").append(targetName).append(" target) {\n")
+                .append("        java.util.List<").append(VIOLATION).append("> violations = null;\n");
+
+        for (String check : checks) {
+            source.append(check);
+        }
+
+        source.append("        return violations == null ? java.util.Collections.emptyList() : violations;\n")
+                .append("    }\n")
+                .append("}\n");
+        return source.toString();
+    }
+
+    private void writeServiceFile() {
+        if (generated.isEmpty()) {
+            return;
+        }
+
+        try {
+            FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", "META-INF/services/" + GENERATED_VALIDATOR);
+            try (Writer writer = file.openWriter()) {
+                for (String name : generated) {
+                    writer.write(name);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Failed to register validators: " + e.getMessage());
+        }
+    }
+
+    // 비 ASCII 문자는 \\uXXXX 로 적어 소스 인코딩과 무관하게 한다
+    static String literal(String value) {
+        StringBuilder literal = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            if (c == '"' || c == '\\') {
+                literal.append('\\').append(c);
+            } else if (c == '\n') {
+                literal.append("\\n");
+            } else if (c < 0x20 || c > 0x7e) {
+                literal.append(String.format("\\u%04x", (int) c));
+            } else {
+                literal.append(c);
+            }
+        }
+        return literal.append('"').toString();
+    }
+
+    // 필드 하나의 제약을 검사 코드로 바꾼다. 지원하지 않으면 add 가 사유를 돌려준다
+    private class FieldChecks {
+        private final VariableElement field;
+        private final String name;
+        private final String value;
+        private final Shape shape;
+        private final int patternOffset;
+        private final List<String> checks = new ArrayList<>();
+        private final List<String> patterns = new ArrayList<>();
+
+        FieldChecks(VariableElement field, int patternOffset) {
+            this.field = field;
+            this.name = field.getSimpleName().toString();
+            this.shape = Shape.of(field.asType(), processingEnv);
+            this.patternOffset = patternOffset;
+            this.value = "target." + getter() + "()";
+        }
+
+        String add(AnnotationMirror mirror) {
+            String annotation = ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString();
+            if (annotation.equals(VALID)) {
+                return "@Valid on " + name;
+            }
+            if (!annotation.startsWith(CONSTRAINTS)) {
+                return null;
+            }
+
+            Map<String, Object> values = values(mirror);
+            String message = (String) values.get("message");
+            if (message.startsWith("{") || !isEmpty(values.get("groups")) || !isEmpty(values.get("payload"))) {
+                return "message template, groups or payload on " + name;
+            }
+
+            String constraint = annotation.substring(CONSTRAINTS.length());
+            switch (constraint) {
+                case "NotNull":
+                    if (field.asType().getKind().isPrimitive()) {
+                        return null;
+                    }
+                    check("value == null", constraint, message);
+                    return null;
+                case "NotBlank":
+                    if (shape != Shape.CHAR_SEQUENCE) {
+                        return "@NotBlank on non CharSequence " + name;
+                    }
+                    check("value == null || " + VIOLATION + ".isBlank(value)", constraint, message);
+                    return null;
+                case "NotEmpty":
+                    if (shape == Shape.OTHER) {
+                        return "@NotEmpty on " + field.asType();
+                    }
+                    check("value == null || " + shape.size("value") + " == 0", constraint, message);
+                    return null;
+                case "Size":
+                    if (shape == Shape.OTHER) {
+                        return "@Size on " + field.asType();
+                    }
+                    int min = (Integer) values.get("min");
+                    int max = (Integer) values.get("max");
+                    List<String> bounds = new ArrayList<>();
+                    if (min > 0) {
+                        bounds.add(shape.size("value") + " < " + min);
+                    }
+                    if (max < Integer.MAX_VALUE) {
+                        bounds.add(shape.size("value") + " > " + max);
+                    }
+                    if (!bounds.isEmpty()) {
+                        check("value != null && (" + String.join(" || ", bounds) + ")", constraint, message);
+                    }
+                    return null;
+                case "Pattern":
+                    if (shape != Shape.CHAR_SEQUENCE || !isEmpty(values.get("flags"))) {
+                        return "@Pattern flags or non CharSequence " + name;
+                    }
+                    String pattern = "PATTERN_" + (patternOffset + patterns.size());
+                    patterns.add((String) values.get("regexp"));
+                    check("value != null && !" + pattern + ".matcher(value).matches()", constraint, message);
+                    return null;
+                default:
+                    return "@" + constraint + " on " + name;
+            }
+        }
+
+        private void check(String condition, String constraint, String message) {
+            checks.add("            if (" + condition + ") {\n"
+                    + "                violations = " + VIOLATION + ".add(violations, " + literal(name) + ", value, "
+                    + literal(constraint) + ", " + literal(message) + ");\n"
+                    + "            }\n");
+        }
+
+        // 필드 값은 한 번만 읽는다
+        String code() {
+            if (checks.isEmpty()) {
+                return "";
+            }
+            return "        {\n"
+                    + "            var value = " + value + ";\n"
+                    + String.join("", checks)
+                    + "        }\n";
+        }
+
+        private String getter() {
+            String prefix = field.asType().getKind() == TypeKind.BOOLEAN ? "is" : "get";
+            return prefix + Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        }
+
+        private Map<String, Object> values(AnnotationMirror mirror) {
+            Map<String, Object> values = new HashMap<>();
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                    : processingEnv.getElementUtils().getElementValuesWithDefaults(mirror).entrySet()) {
+                values.put(entry.getKey().getSimpleName().toString(), entry.getValue().getValue());
+            }
+            return values;
+        }
+
+        private boolean isEmpty(Object arrayValue) {
+            return arrayValue == null || ((List<?>) arrayValue).isEmpty();
+        }
+    }
+
+    private enum Shape {
+        CHAR_SEQUENCE, COLLECTION, MAP, ARRAY, OTHER;
+
+        static Shape of(TypeMirror type, ProcessingEnvironment env) {
+            if (type.getKind() == TypeKind.ARRAY) {
+                return ARRAY;
+            }
+            if (type.getKind() != TypeKind.DECLARED) {
+                return OTHER;
+            }
+            if (isAssignable(type, "java.lang.CharSequence", env)) {
+                return CHAR_SEQUENCE;
+            }
+            if (isAssignable(type, "java.util.Collection", env)) {
+                return COLLECTION;
+            }
+            if (isAssignable(type, "java.util.Map", env)) {
+                return MAP;
+            }
+            return OTHER;
+        }
+
+        String size(String value) {
+            switch (this) {
+                case CHAR_SEQUENCE:
+                    return value + ".length()";
+                case ARRAY:
+                    return value + ".length";
+                default:
+                    return value + ".size()";
+            }
+        }
+
+        private static boolean isAssignable(TypeMirror type, String target, ProcessingEnvironment env) {
+            TypeElement element = env.getElementUtils().getTypeElement(target);
+            return env.getTypeUtils().isAssignable(env.getTypeUtils().erasure(type), env.getTypeUtils().erasure(element.asType()));
+        }
+    }
+}
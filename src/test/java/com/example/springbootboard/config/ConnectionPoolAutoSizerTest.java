@@ -0,0 +1,115 @@
+package com.example.springbootboard.config;
+
+import com.example.springbootboard.config.ConnectionPoolAutoSizer.Observation;
+import com.example.springbootboard.config.ConnectionPoolAutoSizer.Policy;
+import com.example.springbootboard.config.ConnectionPoolAutoSizer.State;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConnectionPoolAutoSizerTest {
+
+    private final Policy policy = new Policy(5, 20, 2, 10);
+
+    @Test
+    @DisplayName("커넥션 대기가 목표를 넘으면 최대 크기까지 늘린다")
+    public void testGrowOnWait() throws Exception {
+        //given
+        State state = new State();
+
+        //when
+        int grown = policy.next(10, new Observation(50, 20, 400), state);
+        int capped = policy.next(20, new Observation(50, 20, 400), state);
+
+        //then
+        assertThat(grown).isEqualTo(12);
+        assertThat(capped).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("늘린 뒤 DB 사용 시간이 크게 늘면 되돌리고 더 늘리지 않는다")
+    public void testBackOffOnDbSaturation() throws Exception {
+        //given
+        State state = new State();
+        int grown = policy.next(10, new Observation(50, 20, 400), state);
+
+        //when
+        int reverted = policy.next(grown, new Observation(50, 40, 300), state);
+        int held = policy.next(reverted, new Observation(50, 40, 300), state);
+
+        //then
+        assertThat(reverted).isEqualTo(10);
+        assertThat(held).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("대기가 없고 필요한 커넥션 수가 적으면 최소 크기까지 줄인다")
+    public void testShrinkWhenIdle() throws Exception {
+        //given
+        State state = new State();
+
+        //when
+        // 초당 100 번 * 10ms = 평균 1 개 사용
+        int shrunk = policy.next(10, new Observation(0, 10, 100), state);
+        int floored = policy.next(6, new Observation(0, 10, 100), state);
+
+        //then
+        assertThat(shrunk).isEqualTo(8);
+        assertThat(floored).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("풀을 줄여도 커넥션을 닫지 않고, 유휴 커넥션이 idleTimeout 뒤에 닫히도록 minimumIdle 을 낮춘다")
+    public void testResizeKeepsConnections() throws Exception {
+        //given
+        try (HikariDataSource pool = new HikariDataSource()) {
+            pool.setJdbcUrl("jdbc:h2:mem:auto-size;DB_CLOSE_DELAY=-1");
+            pool.setUsername("sa");
+            pool.setMaximumPoolSize(10);
+            pool.setMinimumIdle(10);
+
+            Connection busy = pool.getConnection();
+            HikariPoolMXBean mxBean = pool.getHikariPoolMXBean();
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (mxBean.getTotalConnections() < 10 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+
+            //when
+            ConnectionPoolAutoSizer.resize(pool, 10, 6);
+            busy.close();
+
+            //then
+            assertThat(pool.getMaximumPoolSize()).isEqualTo(6);
+            assertThat(pool.getMinimumIdle()).isEqualTo(5);
+            // 사용 중이던 커넥션도 반납할 때 닫히지 않는다
+            assertThat(mxBean.getTotalConnections()).isEqualTo(10);
+            assertThat(mxBean.getIdleConnections()).isEqualTo(10);
+        }
+    }
+
+    @Test
+    @DisplayName("풀을 늘릴 때는 minimumIdle 을 바꾸지 않는다")
+    public void testResizeGrow() throws Exception {
+        //given
+        try (HikariDataSource pool = new HikariDataSource()) {
+            pool.setJdbcUrl("jdbc:h2:mem:auto-size;DB_CLOSE_DELAY=-1");
+            pool.setUsername("sa");
+            pool.setMaximumPoolSize(6);
+            pool.setMinimumIdle(2);
+            pool.getConnection().close();
+
+            //when
+            ConnectionPoolAutoSizer.resize(pool, 6, 8);
+
+            //then
+            assertThat(pool.getMaximumPoolSize()).isEqualTo(8);
+            assertThat(pool.getMinimumIdle()).isEqualTo(2);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.springbootboard.config;
+
+import com.example.springbootboard.config.ReplicaDataSourceProperties.ReplicaSelection;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 서로 다른 H2 메모리 DB 를 primary, replica 로 두고 DATABASE() 로 어느 쪽에서 실행됐는지 확인한다
+class ReadWriteRoutingDataSourceTest {
+
+    private HikariDataSource primary;
+    private HikariDataSource replica0;
+    private HikariDataSource replica1;
+    private ReadWriteRoutingDataSource routingDataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    private void setUp(ReplicaSelection selection) {
+        primary = h2("routing-primary");
+        replica0 = h2("routing-replica0");
+        replica1 = h2("routing-replica1");
+        routingDataSource = new ReadWriteRoutingDataSource(primary, List.of(replica0, replica1), selection);
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        routingDataSource.close();
+        primary.close();
+    }
+
+    @Test
+    @DisplayName("readOnly 트랜잭션은 replica 를 번갈아 쓰고, 쓰기 트랜잭션은 primary 를 쓴다")
+    public void testRoundRobin() throws Exception {
+        //given
+        setUp(ReplicaSelection.ROUND_ROBIN);
+
+        //when
+        String first = readOnlyTransaction.execute(status -> database());
+        String second = readOnlyTransaction.execute(status -> database());
+        String third = readOnlyTransaction.execute(status -> database());
+        String write = writeTransaction.execute(status -> database());
+
+        //then
+        assertThat(List.of(first, second)).containsExactlyInAnyOrder("ROUTING-REPLICA0", "ROUTING-REPLICA1");
+        assertThat(third).isEqualTo(first);
+        assertThat(write).isEqualTo("ROUTING-PRIMARY");
+    }
+
+    @Test
+    @DisplayName("사용 중인 커넥션이 적은 replica 를 고른다")
+    public void testLeastConnections() throws Exception {
+        //given
+        setUp(ReplicaSelection.LEAST_CONNECTIONS);
+
+        //when
+        String selected;
+        try (Connection busy = replica0.getConnection()) {
+            selected = readOnlyTransaction.execute(status -> database());
+        }
+
+        //then
+        assertThat(selected).isEqualTo("ROUTING-REPLICA1");
+    }
+
+    @Test
+    @DisplayName("쓰기가 커밋된 뒤에는 같은 요청의 읽기가 primary 로 간다")
+    public void testReadYourWrites() throws Exception {
+        //given
+        setUp(ReplicaSelection.ROUND_ROBIN);
+        StringBuilder marked = new StringBuilder();
+        ReadYourWrites.open(false, () -> marked.append("written"));
+
+        try {
+            String before = readOnlyTransaction.execute(status -> database());
+
+            //when
+            writeTransaction.execute(status -> database());
+            String after = readOnlyTransaction.execute(status -> database());
+
+            //then
+            assertThat(before).startsWith("ROUTING-REPLICA");
+            assertThat(after).isEqualTo("ROUTING-PRIMARY");
+            assertThat(marked.toString()).isEqualTo("written");
+        } finally {
+            ReadYourWrites.close();
+        }
+    }
+
+    @Test
+    @DisplayName("캐시를 채우는 읽기는 readOnly 트랜잭션이어도 primary 로 간다")
+    public void testPrimaryReads() throws Exception {
+        //given
+        setUp(ReplicaSelection.ROUND_ROBIN);
+
+        //when
+        String pinned = PrimaryReads.call(() -> readOnlyTransaction.execute(status -> database()));
+        String after = readOnlyTransaction.execute(status -> database());
+
+        //then
+        assertThat(pinned).isEqualTo("ROUTING-PRIMARY");
+        assertThat(after).startsWith("ROUTING-REPLICA");
+    }
+
+    private String database() {
+        return jdbcTemplate.queryForObject("select database()", String.class);
+    }
+
+    private static HikariDataSource h2(String name) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUsername("sa");
+        dataSource.setPoolName(name);
+        return dataSource;
+    }
+}
@@ -1,40 +1,62 @@
 package com.example.springbootboard.controller;
 
+import com.example.springbootboard.config.SqlStatementCounter;
 import com.example.springbootboard.dto.request.RequestCreatePost;
+import com.example.springbootboard.dto.request.RequestCreatePostBatch;
+import com.example.springbootboard.dto.request.RequestDeletePosts;
 import com.example.springbootboard.dto.request.RequestUpdatePost;
 import com.example.springbootboard.dto.UserDto;
 import com.example.springbootboard.service.PostService;
+import com.example.springbootboard.service.PostChangedEvent;
+import com.example.springbootboard.service.PostViewCounter;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.metrics.AutoConfigureMetrics;
 import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDocs;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 
 import javax.validation.ConstraintViolation;
 import javax.validation.Validation;
 import javax.validation.Validator;
 import javax.validation.ValidatorFactory;
+import java.io.ByteArrayInputStream;
+import java.util.List;
 import java.util.Set;
+import java.util.zip.GZIPInputStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
 import static org.springframework.restdocs.payload.JsonFieldType.*;
 import static org.springframework.restdocs.payload.PayloadDocumentation.*;
 import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
 import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
+import static org.springframework.restdocs.request.RequestDocumentation.requestParameters;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @Slf4j
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@AutoConfigureMetrics
 @AutoConfigureRestDocs
 @AutoConfigureMockMvc
 @SpringBootTest
@@ -49,6 +71,15 @@ class PostApiControllerTest {
     @Autowired
     private PostService postService;
 
+    @Autowired
+    private PostViewCounter postViewCounter;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private ResponseBodyCache responseBodyCache;
+
     private ValidatorFactory factory;
 
     private Validator validator;
@@ -111,6 +142,144 @@ class PostApiControllerTest {
     }
 
 
+    @Test
+    @DisplayName("게시물을 한 번에 여러 건 저장한다")
+    public void testSavePostBatch() throws Exception {
+        //given
+        RequestCreatePostBatch request = RequestCreatePostBatch.builder()
+                .posts(List.of(
+                        RequestCreatePost.builder()
+                                .userDto(requestUser)
+                                .title("나는 전설이다")
+                                .content("좀비 세상에서 살아남기")
+                                .build(),
+                        RequestCreatePost.builder()
+                                .userDto(requestUser)
+                                .title("")
+                                .content("제목 없는 게시물")
+                                .build()))
+                .build();
+
+        String json = objectMapper.writeValueAsString(request);
+
+        //when
+        ResultActions actions = mockMvc.perform(post("/api/v1/posts/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json));
+
+        //then
+        actions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("data[0].success").value(true))
+                .andExpect(jsonPath("data[0].postId").isString())
+                .andExpect(jsonPath("data[1].success").value(false))
+                .andExpect(jsonPath("data[1].errors").isNotEmpty())
+                .andDo(print())
+                .andDo(document("post-save-batch",
+                        requestFields(
+                            fieldWithPath("posts[]").type(ARRAY).description("posts (최대 500건)"),
+                            fieldWithPath("posts[].title").type(STRING).description("title"),
+                            fieldWithPath("posts[].content").type(STRING).description("content"),
+                            fieldWithPath("posts[].user").type(OBJECT).description("user"),
+                            fieldWithPath("posts[].user.name").type(STRING).description("user.name"),
+                            fieldWithPath("posts[].user.age").type(NUMBER).description("user.age"),
+                            fieldWithPath("posts[].user.hobby").type(STRING).description("user.hobby")
+                        ),
+                        responseFields(
+                            fieldWithPath("status").type(STRING).description("status"),
+                            fieldWithPath("data[]").type(ARRAY).description("요청 순서대로의 항목별 결과"),
+                            fieldWithPath("data[].index").type(NUMBER).description("요청 목록에서의 위치"),
+                            fieldWithPath("data[].success").type(BOOLEAN).description("저장 여부"),
+                            fieldWithPath("data[].postId").type(STRING).description("저장된 postId").optional(),
+                            fieldWithPath("data[].errors[]").type(ARRAY).description("검증 오류").optional(),
+                            fieldWithPath("data[].errors[].field").type(STRING).description("field"),
+                            fieldWithPath("data[].errors[].value").type(STRING).description("value"),
+                            fieldWithPath("data[].errors[].reason").type(STRING).description("reason"),
+                            fieldWithPath("serverDateTime").type(STRING).description("serverDateTime")
+                        )
+                ));
+    }
+
+    @Test
+    @DisplayName("여러 건 저장에서 null 항목은 그 항목만 실패로 돌려준다")
+    public void testSavePostBatchNullItem() throws Exception {
+        //given
+        String json = "{\"posts\":[null," + objectMapper.writeValueAsString(RequestCreatePost.builder()
+                .userDto(requestUser)
+                .title("나는 전설이다")
+                .content("좀비 세상에서 살아남기")
+                .build()) + "]}";
+
+        //when
+        ResultActions actions = mockMvc.perform(post("/api/v1/posts/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json));
+
+        //then
+        actions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("data[0].success").value(false))
+                .andExpect(jsonPath("data[0].errors[0].reason").value("empty record"))
+                .andExpect(jsonPath("data[1].success").value(true))
+                .andExpect(jsonPath("data[1].postId").isString());
+    }
+
+    @Test
+    @DisplayName("NDJSON 으로 게시물을 가져온다")
+    public void testImport() throws Exception {
+        //given
+        RequestCreatePost valid = RequestCreatePost.builder()
+                .userDto(requestUser)
+                .title("나는 전설이다")
+                .content("좀비 세상에서 살아남기")
+                .build();
+        RequestCreatePost invalid = RequestCreatePost.builder()
+                .userDto(requestUser)
+                .title("")
+                .content("제목 없는 게시물")
+                .build();
+
+        String ndjson = objectMapper.writeValueAsString(valid) + "\n"
+                + objectMapper.writeValueAsString(valid) + "\n"
+                + "\n"
+                + objectMapper.writeValueAsString(invalid) + "\n"
+                + "{not json\n";
+
+        //when
+        ResultActions actions = mockMvc.perform(post("/api/v1/posts/import")
+                .contentType("application/x-ndjson")
+                .characterEncoding("utf8")
+                .content(ndjson));
+
+        //then
+        actions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("data.accepted").value(2))
+                .andExpect(jsonPath("data.rejected").value(2))
+                .andExpect(jsonPath("data.completed").value(true))
+                .andExpect(jsonPath("data.rejections[0].line").value(4))
+                .andExpect(jsonPath("data.rejections[1].line").value(5))
+                .andDo(print())
+                .andDo(document("post-import",
+                        responseFields(
+                            fieldWithPath("status").type(STRING).description("status"),
+                            fieldWithPath("data").type(OBJECT).description("data"),
+                            fieldWithPath("data.accepted").type(NUMBER).description("저장된 게시물 수"),
+                            fieldWithPath("data.rejected").type(NUMBER).description("거부된 줄 수"),
+                            fieldWithPath("data.elapsedMillis").type(NUMBER).description("소요 시간 (ms)"),
+                            fieldWithPath("data.postsPerSecond").type(NUMBER).description("초당 저장 건수"),
+                            fieldWithPath("data.completed").type(BOOLEAN).description("끝까지 처리했는지. 중간에 실패하면 500 과 함께 false 이고 accepted 는 그 전에 커밋된 건수다"),
+                            fieldWithPath("data.rejections[]").type(ARRAY).description("거부된 줄 (앞쪽 100건까지)"),
+                            fieldWithPath("data.rejections[].line").type(NUMBER).description("줄 번호 (1부터, 빈 줄 포함)"),
+                            fieldWithPath("data.rejections[].errors[]").type(ARRAY).description("검증/파싱 오류"),
+                            fieldWithPath("data.rejections[].errors[].field").type(STRING).description("field"),
+                            fieldWithPath("data.rejections[].errors[].value").type(STRING).description("value"),
+                            fieldWithPath("data.rejections[].errors[].reason").type(STRING).description("reason"),
+                            fieldWithPath("serverDateTime").type(STRING).description("serverDateTime")
+                        )
+                ));
+    }
+
     @Test
     @DisplayName("게시물을 단건 조회한다")
     public void testGetOne() throws Exception {
@@ -141,11 +310,13 @@ class PostApiControllerTest {
                         responseFields(
                             fieldWithPath("status").type(STRING).description("status"),
                             fieldWithPath("data").type(OBJECT).description("data"),
-                            fieldWithPath("data.postId").type(NUMBER).description("postId"),
+                            fieldWithPath("data.postId").type(STRING).description("postId"),
                             fieldWithPath("data.title").type(STRING).description("title"),
                             fieldWithPath("data.content").type(STRING).description("content"),
                             fieldWithPath("data.createdAt").type(STRING).description("createdAt"),
                             fieldWithPath("data.createdBy").type(STRING).description("createdBy"),
+                            fieldWithPath("data.modifiedAt").type(STRING).description("modifiedAt"),
+                            fieldWithPath("data.viewCount").type(NUMBER).description("조회 수 (flush 주기 + 캐시 수명만큼 늦을 수 있다)"),
                             fieldWithPath("serverDateTime").type(STRING).description("serverDateTime")
 
                         )
@@ -153,6 +324,161 @@ class PostApiControllerTest {
 
     }
 
+    @Test
+    @DisplayName("게시물이 변경되지 않았으면 본문 없이 304를 응답한다")
+    public void testGetOneNotModified() throws Exception {
+        //given
+        RequestCreatePost request = RequestCreatePost.builder()
+                .userDto(requestUser)
+                .title("나는 전설이다")
+                .content("좀비 세상에서 살아남기")
+                .build();
+
+        Long postId = postService.save(request);
+
+        String eTag = mockMvc.perform(get("/api/v1/posts/{postId}", postId))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, startsWith("W/\"" + postId + "-")))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        //when
+        ResultActions actions = mockMvc.perform(RestDocumentationRequestBuilders.get("/api/v1/posts/{postId}", postId)
+                .header(HttpHeaders.IF_NONE_MATCH, eTag));
+
+        //then
+        actions.andExpect(status().isNotModified())
+                .andExpect(content().string(""))
+                .andDo(print())
+                .andDo(document("post-get-one-not-modified",
+                        pathParameters(
+                                parameterWithName("postId").description("postId")
+                        ))
+                );
+    }
+
+    @Test
+    @DisplayName("Last-Modified 이후 변경되지 않았으면 본문 없이 304를 응답한다")
+    public void testGetOneNotModifiedSince() throws Exception {
+        //given
+        RequestCreatePost request = RequestCreatePost.builder()
+                .userDto(requestUser)
+                .title("나는 전설이다")
+                .content("좀비 세상에서 살아남기")
+                .build();
+
+        Long postId = postService.save(request);
+
+        String lastModified = mockMvc.perform(get("/api/v1/posts/{postId}", postId))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.LAST_MODIFIED);
+
+        //when
+        ResultActions actions = mockMvc.perform(get("/api/v1/posts/{postId}", postId)
+                .header(HttpHeaders.IF_MODIFIED_SINCE, lastModified));
+
+        //then
+        actions.andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("단건 조회 수를 모았다가 flush 하면 DB 에 더해지고, 캐시가 만료된 뒤의 응답과 ETag, Last-Modified 에 반영된다")
+    public void testGetOneViewCount() throws Exception {
+        //given
+        RequestCreatePost request = RequestCreatePost.builder()
+                .userDto(requestUser)
+                .title("나는 전설이다")
+                .content("좀비 세상에서 살아남기")
+                .build();
+
+        Long postId = postService.save(request);
+
+        MockHttpServletResponse response = null;
+        for (int i = 0; i < 3; i++) {
+            response = mockMvc.perform(get("/api/v1/posts/{postId}", postId))
+                    .andExpect(status().isOk())
+                    .andReturn()
+                    .getResponse();
+        }
+        String eTag = response.getHeader(HttpHeaders.ETAG);
+        String lastModified = response.getHeader(HttpHeaders.LAST_MODIFIED);
+
+        // Last-Modified 는 초 단위이므로 flush 가 다음 초에 일어나게 한다
+        Thread.sleep(1000 - System.currentTimeMillis() % 1000);
+
+        //when
+        postViewCounter.flush();
+
+        //then
+        // 캐시하지 않는 summary 목록은 바로 반영된다
+        mockMvc.perform(get("/api/v1/posts")
+                        .param("page", "1")
+                        .param("size", "1")
+                        .param("direction", "desc")
+                        .param("view", "summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("data.posts[0].postId").value(String.valueOf(postId)))
+                .andExpect(jsonPath("data.posts[0].viewCount").value(3));
+
+        // flush 는 캐시를 비우지 않으므로 만료를 흉내 낸다
+        cacheManager.getCache(PostService.POST_CACHE).evict(postId);
+        responseBodyCache.onPostChanged(new PostChangedEvent(List.of(postId)));
+
+        mockMvc.perform(get("/api/v1/posts/{postId}", postId)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("data.viewCount").value(3));
+
+        mockMvc.perform(get("/api/v1/posts/{postId}", postId)
+                        .header(HttpHeaders.IF_MODIFIED_SINCE, lastModified))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.LAST_MODIFIED, not(lastModified)))
+                .andExpect(jsonPath("data.viewCount").value(3));
+    }
+
+    @Test
+    @DisplayName("gzip 을 받는 클라이언트에는 캐시된 압축 본문을 응답하고, 수정되면 다시 만든다")
+    public void testGetOneGzip() throws Exception {
+        //given
+        RequestCreatePost request = RequestCreatePost.builder()
+                .userDto(requestUser)
+                .title("나는 전설이다")
+                .content("좀비 세상에서 살아남기 ".repeat(30))
+                .build();
+
+        Long postId = postService.save(request);
+
+        MvcResult gzipped = mockMvc.perform(get("/api/v1/posts/{postId}", postId)
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.VARY, containsString(HttpHeaders.ACCEPT_ENCODING)))
+                .andReturn();
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped.getResponse().getContentAsByteArray()))) {
+            assertThat(objectMapper.readTree(in).at("/data/title").asText()).isEqualTo("나는 전설이다");
+        }
+
+        postService.update(postId, RequestUpdatePost.builder()
+                .title("update title")
+                .content("update content")
+                .build());
+
+        //when
+        ResultActions actions = mockMvc.perform(get("/api/v1/posts/{postId}", postId)
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, identity"));
+
+        //then
+        actions.andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(jsonPath("data.title").value("update title"));
+    }
+
     @Test
     @DisplayName("게시물을 다건 조회한다")
     public void testGetAll() throws Exception {
@@ -188,15 +514,476 @@ class PostApiControllerTest {
                             fieldWithPath("data.totalPages").type(NUMBER).description("totalPages"),
                             fieldWithPath("data.totalElements").type(NUMBER).description("totalElements"),
                             fieldWithPath("data.posts[]").type(ARRAY).description("posts"),
-                            fieldWithPath("data.posts[].postId").type(NUMBER).description("postId"),
+                            fieldWithPath("data.posts[].postId").type(STRING).description("postId"),
+                            fieldWithPath("data.posts[].title").type(STRING).description("title"),
+                            fieldWithPath("data.posts[].content").type(STRING).description("content"),
+                            fieldWithPath("data.posts[].createdAt").type(STRING).description("createdAt"),
+                            fieldWithPath("data.posts[].createdBy").type(STRING).description("createdBy"),
+                            fieldWithPath("data.posts[].modifiedAt").type(STRING).description("modifiedAt"),
+                            fieldWithPath("data.posts[].viewCount").type(NUMBER).description("조회 수"),
+                            fieldWithPath("serverDateTime").type(STRING).description("serverDateTime")
+                        )
+                ));
+
+    }
+
+    @Test
+    @DisplayName("게시물 다건 조회는 작성자(LAZY)를 읽지 않아 게시물 수와 무관하게 select 2 번만 실행한다")
+    public void testGetAllStatementCount() throws Exception {
+        //given
+        for (int i = 0; i < 10; i++) {
+            postService.save(RequestCreatePost.builder()
+                    .userDto(UserDto.builder()
+                            .name("writer" + i)
+                            .age(27)
+                            .hobby("SPORTS")
+                            .build())
+                    .title("나는 전설이다")
+                    .content("좀비 세상에서 살아남기")
+                    .build());
+        }
+
+        SqlStatementCounter.reset();
+
+        //when
+        mockMvc.perform(get("/api/v1/posts")
+                .param("page", "1")
+                .param("size", "10")
+                .param("direction", "desc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("data.posts.length()").value(10));
+
+        //then
+        SqlStatementCounter.Counts counts = SqlStatementCounter.current();
+        assertThat(counts.getSelect()).as(counts.toString()).isEqualTo(2);
+        assertThat(counts.getTotal()).as(counts.toString()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("게시물 저장은 insert 1 번으로 끝난다 (작성자는 캐시에서 찾는다)")
+    public void testSaveStatementCount() throws Exception {
+        //given
+        postService.save(RequestCreatePost.builder()
+                .userDto(requestUser)
+                .title("나는 전설이다")
+                .content("좀비 세상에서 살아남기")
+                .build());
+
+        String json = objectMapper.writeValueAsString(RequestCreatePost.builder()
+                .userDto(requestUser)
+                .title("나는 전설이다")
+                .content("좀비 세상에서 살아남기")
+                .build());
+
+        SqlStatementCounter.reset();
+
+        //when
+        mockMvc.perform(post("/api/v1/posts")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json))
+                .andExpect(status().isCreated());
+
+        //then
+        SqlStatementCounter.Counts counts = SqlStatementCounter.current();
+        assertThat(counts.getInsert()).as(counts.toString()).isEqualTo(1);
+        assertThat(counts.getTotal()).as(counts.toString()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("게시물 목록을 요약 조회한다")
+    public void testGetAllSummary() throws Exception {
+        //given
+        RequestCreatePost request = RequestCreatePost.builder()
+                .userDto(requestUser)
+                .title("나는 전설이다")
+                .content("좀비 세상에서 살아남기")
+                .build();
+
+        postService.save(request);
+
+        //when
+        ResultActions actions = mockMvc.perform(get("/api/v1/posts")
+                .param("page", "1")
+                .param("size", "10")
+                .param("direction", "desc")
+                .param("mode", "slice")
+                .param("view", "summary")
+                .param("excerpt", "2")
+                .characterEncoding("utf8")
+                .contentType(MediaType.APPLICATION_JSON));
+
+        //then
+        actions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("data.posts[0].content").value("좀비"))
+                .andDo(print())
+                .andDo(document("post-get-all-summary",
+                        requestParameters(
+                            parameterWithName("page").description("page"),
+                            parameterWithName("size").description("size"),
+                            parameterWithName("direction").description("direction"),
+                            parameterWithName("mode").description("page(기본값), slice, estimate"),
+                            parameterWithName("view").description("summary 이면 content 를 제외하고 조회"),
+                            parameterWithName("excerpt").description("summary 조회 시 content 앞부분 길이").optional()
+                        ),
+                        responseFields(
+                            fieldWithPath("status").type(STRING).description("status"),
+                            fieldWithPath("data").type(OBJECT).description("data"),
+                            fieldWithPath("data.page").type(NUMBER).description("page"),
+                            fieldWithPath("data.size").type(NUMBER).description("size"),
+                            fieldWithPath("data.first").type(BOOLEAN).description("first"),
+                            fieldWithPath("data.last").type(BOOLEAN).description("last"),
+                            fieldWithPath("data.posts[]").type(ARRAY).description("posts"),
+                            fieldWithPath("data.posts[].postId").type(STRING).description("postId"),
+                            fieldWithPath("data.posts[].title").type(STRING).description("title"),
+                            fieldWithPath("data.posts[].content").type(STRING).description("content 앞부분 (excerpt 지정 시)").optional(),
+                            fieldWithPath("data.posts[].createdAt").type(STRING).description("createdAt"),
+                            fieldWithPath("data.posts[].createdBy").type(STRING).description("createdBy"),
+                            fieldWithPath("data.posts[].modifiedAt").type(STRING).description("modifiedAt"),
+                            fieldWithPath("data.posts[].viewCount").type(NUMBER).description("조회 수"),
+                            fieldWithPath("serverDateTime").type(STRING).description("serverDateTime")
+                        )
+                ));
+    }
+
+    @Test
+    @DisplayName("게시물을 검색한다")
+    public void testSearch() throws Exception {
+        //given
+        RequestCreatePost request = RequestCreatePost.builder()
+                .userDto(requestUser)
+                .title("나는 전설이다")
+                .content("좀비 세상에서 살아남기")
+                .build();
+
+        Long postId = postService.save(request);
+
+        //when
+        ResultActions actions = mockMvc.perform(get("/api/v1/posts/search")
+                .param("q", "전설 좀비")
+                .param("page", "1")
+                .param("size", "10")
+                .characterEncoding("utf8")
+                .contentType(MediaType.APPLICATION_JSON));
+
+        //then
+        actions
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(jsonPath("data.posts[0].postId").value(String.valueOf(postId)))
+                .andDo(print())
+                .andDo(document("post-search",
+                        requestParameters(
+                            parameterWithName("q").description("검색어 (제목/내용)"),
+                            parameterWithName("page").description("page (기본값 1)").optional(),
+                            parameterWithName("size").description("size (기본값 10, 최대 50)").optional()
+                        ),
+                        responseFields(
+                            fieldWithPath("status").type(STRING).description("status"),
+                            fieldWithPath("data").type(OBJECT).description("data"),
+                            fieldWithPath("data.page").type(NUMBER).description("page"),
+                            fieldWithPath("data.size").type(NUMBER).description("size"),
+                            fieldWithPath("data.first").type(BOOLEAN).description("first"),
+                            fieldWithPath("data.last").type(BOOLEAN).description("last"),
+                            fieldWithPath("data.totalPages").type(NUMBER).description("totalPages"),
+                            fieldWithPath("data.totalElements").type(NUMBER).description("totalElements"),
+                            fieldWithPath("data.posts[]").type(ARRAY).description("posts (관련도 순)"),
+                            fieldWithPath("data.posts[].postId").type(STRING).description("postId"),
+                            fieldWithPath("data.posts[].title").type(STRING).description("title"),
+                            fieldWithPath("data.posts[].content").type(STRING).description("content"),
+                            fieldWithPath("data.posts[].createdAt").type(STRING).description("createdAt"),
+                            fieldWithPath("data.posts[].createdBy").type(STRING).description("createdBy"),
+                            fieldWithPath("data.posts[].modifiedAt").type(STRING).description("modifiedAt"),
+                            fieldWithPath("data.posts[].viewCount").type(NUMBER).description("조회 수"),
+                            fieldWithPath("serverDateTime").type(STRING).description("serverDateTime")
+                        )
+                ));
+    }
+
+    @Test
+    @DisplayName("검색 결과보다 뒤의 페이지는 빈 목록을 응답한다")
+    public void testSearchPastLastPage() throws Exception {
+        //given
+        postService.save(RequestCreatePost.builder()
+                .userDto(requestUser)
+                .title("나는 전설이다")
+                .content("좀비 세상에서 살아남기")
+                .build());
+
+        //when
+        // (page - 1) * size 를 int 로 곱하면 음수가 되는 페이지
+        ResultActions actions = mockMvc.perform(get("/api/v1/posts/search")
+                .param("q", "전설")
+                .param("page", "50000000")
+                .param("size", "50")
+                .characterEncoding("utf8"));
+
+        //then
+        actions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("data.posts").isEmpty())
+                .andExpect(jsonPath("data.last").value(true));
+    }
+
+    @Test
+    @DisplayName("전체 게시물을 NDJSON 으로 내보낸다")
+    public void testExport() throws Exception {
+        //given
+        RequestCreatePost request = RequestCreatePost.builder()
+                .userDto(requestUser)
+                .title("나는 전설이다")
+                .content("좀비 세상에서 살아남기")
+                .build();
+
+        Long postId = postService.save(request);
+
+        //when
+        MvcResult started = mockMvc.perform(get("/api/v1/posts/export")
+                .param("format", "ndjson"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        ResultActions actions = mockMvc.perform(asyncDispatch(started));
+
+        //then
+        actions
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"posts.ndjson\""))
+                .andExpect(content().string(containsString("\"postId\":\"" + postId + "\"")))
+                .andDo(document("post-export",
+                        requestParameters(
+                            parameterWithName("format").description("ndjson(기본값), csv").optional()
+                        )
+                ));
+    }
+
+    @Test
+    @DisplayName("전체 게시물을 CSV 로 내보낸다")
+    public void testExportCsv() throws Exception {
+        //given
+        RequestCreatePost request = RequestCreatePost.builder()
+                .userDto(requestUser)
+                .title("나는, 전설이다")
+                .content("좀비 \"세상\"에서\n살아남기")
+                .build();
+
+        Long postId = postService.save(request);
+
+        //when
+        MvcResult started = mockMvc.perform(get("/api/v1/posts/export")
+                .param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        ResultActions actions = mockMvc.perform(asyncDispatch(started));
+
+        //then
+        actions
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv;charset=UTF-8"))
+                .andExpect(content().string(startsWith("postId,title,content,createdAt,createdBy,modifiedAt\r\n")))
+                .andExpect(content().string(containsString(postId + ",\"나는, 전설이다\",\"좀비 \"\"세상\"\"에서\n살아남기\",")));
+    }
+
+    @Test
+    @DisplayName("논블로킹 경로로 게시물을 단건 조회한다")
+    public void testReactiveGetOne() throws Exception {
+        //given
+        RequestCreatePost request = RequestCreatePost.builder()
+                .userDto(requestUser)
+                .title("나는 전설이다")
+                .content("좀비 세상에서 살아남기")
+                .build();
+
+        Long postId = postService.save(request);
+
+        //when
+        MvcResult started = mockMvc.perform(RestDocumentationRequestBuilders.get("/api/v1/reactive/posts/{postId}", postId))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        ResultActions actions = mockMvc.perform(asyncDispatch(started));
+
+        //then
+        actions
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, startsWith("W/\"" + postId + "-")))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andExpect(jsonPath("data.title").value("나는 전설이다"))
+                .andExpect(jsonPath("data.content").value("좀비 세상에서 살아남기"))
+                .andDo(print())
+                .andDo(document("reactive-post-get-one",
+                        responseFields(
+                            fieldWithPath("status").type(STRING).description("status"),
+                            fieldWithPath("data").type(OBJECT).description("data"),
+                            fieldWithPath("data.postId").type(STRING).description("postId"),
+                            fieldWithPath("data.title").type(STRING).description("title"),
+                            fieldWithPath("data.content").type(STRING).description("content"),
+                            fieldWithPath("data.createdAt").type(STRING).description("createdAt"),
+                            fieldWithPath("data.createdBy").type(STRING).description("createdBy"),
+                            fieldWithPath("data.modifiedAt").type(STRING).description("modifiedAt"),
+                            fieldWithPath("data.viewCount").type(NUMBER).description("조회 수 (flush 주기 + 캐시 수명만큼 늦을 수 있다)"),
+                            fieldWithPath("serverDateTime").type(STRING).description("serverDateTime")
+                        )
+                ));
+    }
+
+    @Test
+    @DisplayName("논블로킹 경로로 게시물을 다건 조회한다")
+    public void testReactiveGetAll() throws Exception {
+        //given
+        RequestCreatePost request = RequestCreatePost.builder()
+                .userDto(requestUser)
+                .title("나는 전설이다")
+                .content("좀비 세상에서 살아남기")
+                .build();
+
+        postService.save(request);
+        long total = postService.findAll(PageRequest.of(0, 10)).getTotalElements();
+
+        //when
+        MvcResult started = mockMvc.perform(get("/api/v1/reactive/posts")
+                .param("page", "1")
+                .param("size", "10")
+                .param("direction", "desc"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        ResultActions actions = mockMvc.perform(asyncDispatch(started));
+
+        //then
+        actions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("data.page").value(0))
+                .andExpect(jsonPath("data.totalElements").value(total))
+                .andExpect(jsonPath("data.posts[0].title").value("나는 전설이다"))
+                .andDo(print())
+                .andDo(document("reactive-post-get-all",
+                        requestParameters(
+                            parameterWithName("page").description("1부터 시작하는 페이지 번호"),
+                            parameterWithName("size").description("페이지 크기 (최대 50)"),
+                            parameterWithName("direction").description("createdAt 정렬 방향 (asc, desc)")
+                        ),
+                        responseFields(
+                            fieldWithPath("status").type(STRING).description("status"),
+                            fieldWithPath("data").type(OBJECT).description("data"),
+                            fieldWithPath("data.page").type(NUMBER).description("page"),
+                            fieldWithPath("data.size").type(NUMBER).description("size"),
+                            fieldWithPath("data.first").type(BOOLEAN).description("first"),
+                            fieldWithPath("data.last").type(BOOLEAN).description("last"),
+                            fieldWithPath("data.totalPages").type(NUMBER).description("totalPages"),
+                            fieldWithPath("data.totalElements").type(NUMBER).description("totalElements"),
+                            fieldWithPath("data.posts[]").type(ARRAY).description("posts"),
+                            fieldWithPath("data.posts[].postId").type(STRING).description("postId"),
                             fieldWithPath("data.posts[].title").type(STRING).description("title"),
                             fieldWithPath("data.posts[].content").type(STRING).description("content"),
                             fieldWithPath("data.posts[].createdAt").type(STRING).description("createdAt"),
                             fieldWithPath("data.posts[].createdBy").type(STRING).description("createdBy"),
+                            fieldWithPath("data.posts[].modifiedAt").type(STRING).description("modifiedAt"),
+                            fieldWithPath("data.posts[].viewCount").type(NUMBER).description("조회 수"),
                             fieldWithPath("serverDateTime").type(STRING).description("serverDateTime")
                         )
                 ));
+    }
+
+    @Test
+    @DisplayName("논블로킹 목록 조회는 지원하지 않는 cursor, mode, view 파라미터를 400 으로 거절한다")
+    public void testReactiveGetAllUnsupportedParameters() throws Exception {
+        for (String[] parameter : new String[][]{{"cursor", ""}, {"mode", "slice"}, {"view", "summary"}}) {
+            //when
+            MvcResult started = mockMvc.perform(get("/api/v1/reactive/posts")
+                    .param("page", "1")
+                    .param("size", "10")
+                    .param("direction", "desc")
+                    .param(parameter[0], parameter[1]))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            //then
+            mockMvc.perform(asyncDispatch(started))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("code").value("C001"));
+        }
+    }
+
+    @Test
+    @DisplayName("논블로킹 경로로 전체 게시물을 NDJSON 스트림으로 받는다")
+    public void testReactiveStream() throws Exception {
+        //given
+        RequestCreatePost request = RequestCreatePost.builder()
+                .userDto(requestUser)
+                .title("나는 전설이다")
+                .content("좀비 세상에서 살아남기")
+                .build();
+
+        Long postId = postService.save(request);
+
+        //when
+        MvcResult started = mockMvc.perform(get("/api/v1/reactive/posts/stream")
+                .accept("application/x-ndjson"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        ResultActions actions = mockMvc.perform(asyncDispatch(started));
+
+        //then
+        actions
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("\"postId\":\"" + postId + "\"")))
+                .andDo(document("reactive-post-stream"));
+    }
+
+    @Test
+    @DisplayName("게시물을 커서로 다건 조회한다")
+    public void testGetAllByCursor() throws Exception {
+        //given
+        RequestCreatePost request = RequestCreatePost.builder()
+                .userDto(requestUser)
+                .title("나는 전설이다")
+                .content("좀비 세상에서 살아남기")
+                .build();
+
+        postService.save(request);
+        postService.save(request);
+
+        //when
+        ResultActions actions = mockMvc.perform(get("/api/v1/posts")
+                .param("cursor", "")
+                .param("size", "1")
+                .param("direction", "desc")
+                .characterEncoding("utf8")
+                .contentType(MediaType.APPLICATION_JSON));
 
+        //then
+        actions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("data.posts.length()").value(1))
+                .andExpect(jsonPath("data.nextCursor").isNotEmpty())
+                .andDo(print())
+                .andDo(document("post-get-all-cursor",
+                        requestParameters(
+                            parameterWithName("cursor").description("이전 응답의 nextCursor 또는 prevCursor, 첫 페이지는 빈 값"),
+                            parameterWithName("size").description("size"),
+                            parameterWithName("direction").description("direction")
+                        ),
+                        responseFields(
+                            fieldWithPath("status").type(STRING).description("status"),
+                            fieldWithPath("data").type(OBJECT).description("data"),
+                            fieldWithPath("data.size").type(NUMBER).description("size"),
+                            fieldWithPath("data.first").type(BOOLEAN).description("first"),
+                            fieldWithPath("data.last").type(BOOLEAN).description("last"),
+                            fieldWithPath("data.nextCursor").type(STRING).description("nextCursor"),
+                            fieldWithPath("data.posts[]").type(ARRAY).description("posts"),
+                            fieldWithPath("data.posts[].postId").type(STRING).description("postId"),
+                            fieldWithPath("data.posts[].title").type(STRING).description("title"),
+                            fieldWithPath("data.posts[].content").type(STRING).description("content"),
+                            fieldWithPath("data.posts[].createdAt").type(STRING).description("createdAt"),
+                            fieldWithPath("data.posts[].createdBy").type(STRING).description("createdBy"),
+                            fieldWithPath("data.posts[].modifiedAt").type(STRING).description("modifiedAt"),
+                            fieldWithPath("data.posts[].viewCount").type(NUMBER).description("조회 수"),
+                            fieldWithPath("serverDateTime").type(STRING).description("serverDateTime")
+                        )
+                ));
     }
 
     @Test
@@ -237,6 +1024,72 @@ class PostApiControllerTest {
                 );
     }
 
+    @Test
+    @DisplayName("게시물의 일부 필드만 수정할 수 있다")
+    public void testPatchPost() throws Exception {
+        //given
+        RequestCreatePost request = RequestCreatePost.builder()
+                .userDto(requestUser)
+                .title("나는 전설이다")
+                .content("좀비 세상에서 살아남기")
+                .build();
+
+        Long postId = postService.save(request);
+
+        // 보내지 않은 content 는 바뀌지 않는다
+        String json = "{\"title\":\"patch title\"}";
+
+        //when
+        ResultActions actions = mockMvc.perform(RestDocumentationRequestBuilders.patch("/api/v1/posts/{postId}", postId)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content(json));
+
+        //then
+        actions.andExpect(status().isOk())
+                .andDo(print())
+                .andDo(document("post-patch",
+                        pathParameters(
+                                parameterWithName("postId").description("postId")
+                        ),
+                        requestFields(
+                                fieldWithPath("title").type(STRING).description("title (생략하면 그대로)").optional(),
+                                fieldWithPath("content").type(STRING).description("content (생략하면 그대로)").optional()
+                        ))
+                );
+
+        mockMvc.perform(get("/api/v1/posts/{postId}", postId))
+                .andExpect(jsonPath("data.title").value("patch title"))
+                .andExpect(jsonPath("data.content").value("좀비 세상에서 살아남기"));
+    }
+
+    @Test
+    @DisplayName("부분 수정에서 공백뿐인 content 는 400 으로 거절하고 게시물을 바꾸지 않는다")
+    public void testPatchPostBlankContent() throws Exception {
+        //given
+        RequestCreatePost request = RequestCreatePost.builder()
+                .userDto(requestUser)
+                .title("나는 전설이다")
+                .content("좀비 세상에서 살아남기")
+                .build();
+
+        Long postId = postService.save(request);
+
+        String json = "{\"content\":\"   \"}";
+
+        //when
+        ResultActions actions = mockMvc.perform(patch("/api/v1/posts/{postId}", postId)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content(json));
+
+        //then
+        actions.andExpect(status().isBadRequest())
+                .andExpect(jsonPath("code").value("C001"))
+                .andExpect(jsonPath("errors[0].field").value("content"));
+
+        mockMvc.perform(get("/api/v1/posts/{postId}", postId))
+                .andExpect(jsonPath("data.content").value("좀비 세상에서 살아남기"));
+    }
+
     @Test
     @DisplayName("게시물을 삭제할 수 있다")
     public void testDeletePost() throws Exception {
@@ -260,6 +1113,67 @@ class PostApiControllerTest {
                                 parameterWithName("postId").description("postId")
                         ))
                 );
+
+        mockMvc.perform(delete("/api/v1/posts/{postId}", postId))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("게시물을 id 목록이나 작성자로 한 번에 삭제할 수 있다")
+    public void testDeletePostsBulk() throws Exception {
+        //given
+        UserDto bulkUser = UserDto.builder()
+                .age(30)
+                .name("bulkdelete")
+                .hobby("SPORTS")
+                .build();
+
+        List<Long> postIds = new java.util.ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            postIds.add(postService.save(RequestCreatePost.builder()
+                    .userDto(i < 2 ? requestUser : bulkUser)
+                    .title("나는 전설이다" + i)
+                    .content("좀비 세상에서 살아남기")
+                    .build()));
+        }
+
+        // 없는 id 는 지운 수에 들어가지 않는다
+        String json = objectMapper.writeValueAsString(RequestDeletePosts.builder()
+                .postIds(List.of(postIds.get(0), postIds.get(1), postIds.get(4) + 1))
+                .build());
+
+        //when
+        ResultActions actions = mockMvc.perform(post("/api/v1/posts/bulk-delete")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json));
+
+        //then
+        actions.andExpect(status().isOk())
+                .andExpect(jsonPath("data.deleted").value(2))
+                .andExpect(jsonPath("data.chunks").value(1))
+                .andDo(print())
+                .andDo(document("post-bulk-delete",
+                        requestFields(
+                                fieldWithPath("postIds").type(ARRAY).description("삭제할 게시물 id (최대 10,000)").optional(),
+                                fieldWithPath("userName").type(STRING).description("이 사용자의 게시물을 모두 삭제 (postIds 와 함께 쓸 수 없다)").optional()
+                        ),
+                        responseFields(
+                                fieldWithPath("status").type(STRING).description("status"),
+                                fieldWithPath("data").type(OBJECT).description("data"),
+                                fieldWithPath("data.deleted").type(NUMBER).description("삭제된 게시물 수"),
+                                fieldWithPath("data.chunks").type(NUMBER).description("delete 문(트랜잭션) 수"),
+                                fieldWithPath("data.elapsedMillis").type(NUMBER).description("elapsedMillis"),
+                                fieldWithPath("serverDateTime").type(STRING).description("serverDateTime")
+                        )));
+
+        mockMvc.perform(post("/api/v1/posts/bulk-delete")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"userName\":\"bulkdelete\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("data.deleted").value(3));
+
+        mockMvc.perform(get("/api/v1/posts/{postId}", postIds.get(4)))
+                .andExpect(status().isNotFound());
     }
 
     @Test
@@ -287,10 +1201,40 @@ class PostApiControllerTest {
                 .content(json));
 
         //then
-        actions.andExpect(status().isInternalServerError())
+        actions.andExpect(status().isNotFound())
+                .andExpect(jsonPath("code").value("C003"))
+                .andExpect(jsonPath("status").value(404))
                 .andDo(print());
     }
 
+    @Test
+    @DisplayName("스크랩 엔드포인트에 경로별/서비스 메서드별 히스토그램과 에러 코드별 건수가 노출된다")
+    public void testPrometheus() throws Exception {
+        //given
+        RequestCreatePost request = RequestCreatePost.builder()
+                .userDto(requestUser)
+                .title("나는 전설이다")
+                .content("좀비 세상에서 살아남기")
+                .build();
+
+        Long postId = postService.save(request);
+        mockMvc.perform(get("/api/v1/posts/{postId}", postId)).andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/posts/{postId}", postId + 1)).andExpect(status().isNotFound());
+
+        //when
+        ResultActions actions = mockMvc.perform(get("/actuator/prometheus"));
+
+        //then
+        actions.andExpect(status().isOk())
+                .andExpect(content().string(containsString("http_server_requests_seconds_bucket{application=\"board\",exception=\"None\",method=\"GET\",outcome=\"SUCCESS\",status=\"200\",uri=\"/api/v1/posts/{postId}\"")))
+                .andExpect(content().string(containsString("board_post_service_seconds_bucket{application=\"board\",class=\"com.example.springbootboard.service.PostService\",exception=\"none\",method=\"save\"")))
+                .andExpect(content().string(containsString("board_errors_total{application=\"board\",code=\"C003\",error=\"ENTITY_NOT_FOUND\"")))
+                .andExpect(content().string(containsString("board_sql_statement_seconds_bucket{application=\"board\",origin=\"findOne\",type=\"select\"")))
+                .andExpect(content().string(containsString("board_sql_statement_seconds_bucket{application=\"board\",origin=\"save\",type=\"insert\"")))
+                .andExpect(content().string(not(containsString("origin=\"none\",type=\"insert\""))))
+                .andExpect(content().string(containsString("hibernate_statements_total")));
+    }
+
 
     @Test
     @DisplayName("사용자 이름은 Null이 될 수 없다")
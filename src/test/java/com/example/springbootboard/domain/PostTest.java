@@ -109,6 +109,18 @@ class PostTest {
         assertThat(post.getTitle()).isEqualTo(new Title(updateTitle));
     }
 
+    @Test
+    @DisplayName("부분 수정은 값이 있는 필드만 update 와 같은 규칙으로 검증한다")
+    public void testValidatePatch() throws Exception {
+        //when
+        Post.validatePatch(null, null);
+        Post.validatePatch(null, "content");
+
+        //then
+        assertThrows(IllegalArgumentException.class, () -> Post.validatePatch(new Title("A".repeat(50)), null));
+        assertThrows(IllegalArgumentException.class, () -> Post.validatePatch(null, "  "));
+    }
+
     private User createUser(String name, int age, Hobby hobby) {
         return User.builder()
                 .createdAt(LocalDateTime.now())
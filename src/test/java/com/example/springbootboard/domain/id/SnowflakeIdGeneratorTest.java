@@ -0,0 +1,80 @@
+package com.example.springbootboard.domain.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SnowflakeIdGeneratorTest {
+
+    @Test
+    @DisplayName("ID는 시간 순으로 증가한다")
+    public void testMonotonic() throws Exception {
+        //given
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1);
+
+        //when
+        long previous = generator.nextId();
+
+        //then
+        for (int i = 0; i < 100_000; i++) {
+            long next = generator.nextId();
+            assertThat(next).isGreaterThan(previous);
+            previous = next;
+        }
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 발급해도 ID가 중복되지 않는다")
+    public void testUniqueAcrossThreads() throws Exception {
+        //given
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        //when
+        for (int i = 0; i < 8; i++) {
+            executor.submit(() -> {
+                for (int j = 0; j < 10_000; j++) {
+                    ids.add(generator.nextId());
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        //then
+        assertThat(ids).hasSize(80_000);
+    }
+
+    @Test
+    @DisplayName("ID에 노드 번호와 발급 시각이 담긴다")
+    public void testLayout() throws Exception {
+        //given
+        Instant now = Instant.parse("2021-10-01T00:00:00Z");
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(7, Clock.fixed(now, ZoneOffset.UTC));
+
+        //when
+        long id = generator.nextId();
+
+        //then
+        assertThat(SnowflakeIdGenerator.nodeIdOf(id)).isEqualTo(7);
+        assertThat(SnowflakeIdGenerator.timestampOf(id)).isEqualTo(now.toEpochMilli());
+    }
+
+    @Test
+    @DisplayName("노드 번호는 범위를 넘을 수 없다")
+    public void testNodeIdOutOfRange() throws Exception {
+        assertThrows(IllegalArgumentException.class, () -> new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID + 1));
+    }
+}
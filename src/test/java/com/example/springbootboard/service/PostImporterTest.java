@@ -0,0 +1,109 @@
+package com.example.springbootboard.service;
+
+import com.example.springbootboard.dto.UserDto;
+import com.example.springbootboard.dto.request.RequestCreatePost;
+import com.example.springbootboard.dto.request.RequestDeletePosts;
+import com.example.springbootboard.error.exception.ImportAbortedException;
+import com.example.springbootboard.repository.PostRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+// 가져오기는 자체 스레드에서 배치마다 커밋하므로 테스트 트랜잭션을 쓰지 않는다
+@SpringBootTest
+public class PostImporterTest {
+
+    private static final String USER_NAME = "import_aborted";
+
+    @Autowired
+    PostService postService;
+
+    @Autowired
+    PostRepository postRepository;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @AfterEach
+    void tearDown() {
+        postService.deleteAll(RequestDeletePosts.builder().userName(USER_NAME).build());
+    }
+
+    @Test
+    @DisplayName("중간에 실패하면 그 전에 커밋된 건수를 예외에 싣는다")
+    public void testImportAborted() throws Exception {
+        //given
+        PostImporter importer = new PostImporter(postService, objectMapper, 2, 1);
+        String line = objectMapper.writeValueAsString(RequestCreatePost.builder()
+                .userDto(UserDto.builder()
+                        .name(USER_NAME)
+                        .age(27)
+                        .hobby("SPORTS")
+                        .build())
+                .title("title")
+                .content("content")
+                .build()) + "\n";
+        long before = postRepository.count();
+
+        //when
+        ImportAbortedException e = catchThrowableOfType(
+                () -> importer.importFrom(new FailAfterCommit((line + line).getBytes(StandardCharsets.UTF_8), before)),
+                ImportAbortedException.class);
+
+        //then
+        assertThat(e).isNotNull();
+        assertThat(e.getCause()).hasRootCauseInstanceOf(IOException.class);
+        assertThat(e.getResult().isCompleted()).isFalse();
+        assertThat(e.getResult().getAccepted()).isEqualTo(2);
+        assertThat(postRepository.count()).isEqualTo(before + 2);
+    }
+
+    // 첫 배치를 모두 내준 뒤, 그 배치가 커밋될 때까지 기다렸다가 읽기 오류를 낸다
+    private class FailAfterCommit extends InputStream {
+        private final byte[] head;
+        private final long before;
+        private int position;
+
+        FailAfterCommit(byte[] head, long before) {
+            this.head = head;
+            this.before = before;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] one = new byte[1];
+            return read(one, 0, 1) == -1 ? -1 : one[0];
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (position < head.length) {
+                int n = Math.min(len, head.length - position);
+                System.arraycopy(head, position, b, off, n);
+                position += n;
+                return n;
+            }
+
+            long deadline = System.currentTimeMillis() + 10_000;
+            while (postRepository.count() < before + 2 && System.currentTimeMillis() < deadline) {
+                try {
+                    Thread.sleep(10);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+            throw new IOException("connection reset");
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.springbootboard.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostSearchIndexTest {
+
+    @Test
+    @DisplayName("제목에 검색어가 있는 게시물이 먼저 나온다")
+    public void testTitleRankedFirst() throws Exception {
+        //given
+        PostSearchIndex index = new PostSearchIndex();
+        index.index(1L, "오늘의 일기", "좀비 영화를 봤다");
+        index.index(2L, "좀비 세상에서 살아남기", "나는 전설이다");
+        index.index(3L, "점심 메뉴", "김치찌개");
+
+        //when
+        PostSearchIndex.Hits hits = index.search("좀비", 0, 10);
+
+        //then
+        assertThat(hits.getTotal()).isEqualTo(2);
+        assertThat(hits.getPostIds()).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("조사가 붙은 한글 단어도 검색된다")
+    public void testHangulBigram() throws Exception {
+        //given
+        PostSearchIndex index = new PostSearchIndex();
+        index.index(1L, "전설이다", "좀비 세상에서 살아남기");
+
+        //when
+        PostSearchIndex.Hits hits = index.search("전설", 0, 10);
+
+        //then
+        assertThat(hits.getPostIds()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("offset 이 결과 수를 넘으면 빈 목록과 전체 건수를 돌려준다")
+    public void testOffsetPastEnd() throws Exception {
+        //given
+        PostSearchIndex index = new PostSearchIndex();
+        index.index(1L, "좀비 세상에서 살아남기", "나는 전설이다");
+
+        //when
+        PostSearchIndex.Hits hits = index.search("좀비", (long) Integer.MAX_VALUE * 50, 50);
+
+        //then
+        assertThat(hits.getPostIds()).isEmpty();
+        assertThat(hits.getTotal()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("수정/삭제하면 이전 내용으로는 검색되지 않는다")
+    public void testReindexAndRemove() throws Exception {
+        //given
+        PostSearchIndex index = new PostSearchIndex();
+        index.index(1L, "spring boot", "board");
+        index.index(2L, "spring data", "jpa");
+
+        //when
+        index.index(1L, "java", "board");
+        index.remove(2L);
+
+        //then
+        assertThat(index.search("spring", 0, 10).getTotal()).isZero();
+        assertThat(index.search("JAVA", 0, 10).getPostIds()).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+}
@@ -3,9 +3,13 @@ package com.example.springbootboard.service;
 import com.example.springbootboard.domain.Post;
 import com.example.springbootboard.domain.Title;
 import com.example.springbootboard.dto.*;
+import com.example.springbootboard.dto.request.PageMode;
+import com.example.springbootboard.dto.request.PostCursor;
 import com.example.springbootboard.dto.request.RequestCreatePost;
+import com.example.springbootboard.dto.request.RequestPatchPost;
 import com.example.springbootboard.dto.request.RequestUpdatePost;
 import com.example.springbootboard.dto.response.PostDto;
+import com.example.springbootboard.error.exception.EntityNotFoundException;
 import com.example.springbootboard.repository.PostRepository;
 import com.example.springbootboard.repository.UserRepository;
 import lombok.extern.slf4j.Slf4j;
@@ -15,12 +19,16 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @Slf4j
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
@@ -37,6 +45,15 @@ public class PostServiceTest {
     @Autowired
     UserRepository userRepository;
 
+    @Autowired
+    PostCountCache postCountCache;
+
+    @Autowired
+    CacheManager cacheManager;
+
+    @Autowired
+    PostCache postCache;
+
     UserDto requestUser = null;
 
     @BeforeAll
@@ -157,4 +174,192 @@ public class PostServiceTest {
         assertThat(actual.get().getContent()).isEqualTo("update content");
         assertThat(actual.get().getTitle()).isEqualTo(new Title("update title"));
     }
+
+    @Test
+    @DisplayName("게시글의 일부 필드만 수정하고 버전을 올린다")
+    public void testPatchPost() throws Exception {
+        //given
+        RequestCreatePost requestCreate = RequestCreatePost.builder()
+                .content("content")
+                .title("title")
+                .userDto(requestUser)
+                .build();
+
+        Long postId = postService.save(requestCreate);
+        Long version = postRepository.findById(postId).get().getVersion();
+
+        //when
+        postService.patch(postId, RequestPatchPost.builder()
+                .title("patch title")
+                .build());
+
+        //then
+        Post actual = postRepository.findById(postId).get();
+        assertThat(actual.getTitle()).isEqualTo(new Title("patch title"));
+        assertThat(actual.getContent()).isEqualTo("content");
+        assertThat(actual.getVersion()).isEqualTo(version + 1);
+        assertThatThrownBy(() -> postService.patch(postId + 1, RequestPatchPost.builder().content("content").build()))
+                .isInstanceOf(EntityNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("커서로 게시글을 앞뒤로 조회한다")
+    public void testFindAllByCursor() throws Exception {
+        //given
+        for (int i = 1; i <= 3; i++) {
+            postService.save(RequestCreatePost.builder()
+                    .content("content" + i)
+                    .title("title" + i)
+                    .userDto(requestUser)
+                    .build());
+        }
+
+        //when
+        PagePostDto first = postService.findAllByCursor(null, 2, Sort.Direction.ASC);
+        PagePostDto second = postService.findAllByCursor(PostCursor.decode(first.getNextCursor()), 2, Sort.Direction.ASC);
+        PagePostDto back = postService.findAllByCursor(PostCursor.decode(second.getPrevCursor()), 2, Sort.Direction.ASC);
+
+        //then
+        assertThat(first.getPosts()).extracting(PostDto::getTitle).containsExactly("title1", "title2");
+        assertThat(first.isFirst()).isTrue();
+        assertThat(first.getTotalElements()).isNull();
+
+        assertThat(second.getPosts()).extracting(PostDto::getTitle).containsExactly("title3");
+        assertThat(second.isLast()).isTrue();
+
+        assertThat(back.getPosts()).extracting(PostDto::getTitle).containsExactly("title1", "title2");
+        assertThat(back.isFirst()).isTrue();
+    }
+
+    @Test
+    @DisplayName("COUNT 쿼리 없이 게시글을 조회한다")
+    public void testFindSlice() throws Exception {
+        //given
+        for (int i = 1; i <= 3; i++) {
+            postService.save(RequestCreatePost.builder()
+                    .content("content" + i)
+                    .title("title" + i)
+                    .userDto(requestUser)
+                    .build());
+        }
+
+        postCountCache.refresh();
+
+        //when
+        PagePostDto slice = postService.findSlice(PageRequest.of(0, 2));
+        PagePostDto estimated = postService.findAllEstimated(PageRequest.of(0, 2));
+
+        //then
+        assertThat(slice.getPosts()).hasSize(2);
+        assertThat(slice.isLast()).isFalse();
+        assertThat(slice.getTotalElements()).isNull();
+        assertThat(slice.getTotalPages()).isNull();
+
+        assertThat(estimated.getPosts()).hasSize(2);
+        assertThat(estimated.getTotalElements()).isEqualTo(3);
+        assertThat(estimated.getTotalPages()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("게시글 목록을 요약 조회한다")
+    public void testFindSummaries() throws Exception {
+        //given
+        postService.save(RequestCreatePost.builder()
+                .content("좀비 세상에서 살아남기")
+                .title("나는 전설이다")
+                .userDto(requestUser)
+                .build());
+
+        //when
+        PagePostDto summary = postService.findSummaries(PageRequest.of(0, 10), PageMode.PAGE, 0);
+        PagePostDto excerpt = postService.findSummaries(PageRequest.of(0, 10), PageMode.SLICE, 2);
+
+        //then
+        assertThat(summary.getPosts()).hasSize(1);
+        assertThat(summary.getPosts().get(0).getTitle()).isEqualTo("나는 전설이다");
+        assertThat(summary.getPosts().get(0).getContent()).isNull();
+        assertThat(summary.getTotalElements()).isEqualTo(1);
+
+        assertThat(excerpt.getPosts().get(0).getContent()).isEqualTo("좀비");
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("단건 조회 결과는 캐시되고 수정, 삭제하면 비워진다")
+    public void testFindOneCache() throws Exception {
+        //given
+        Long postId = postService.save(RequestCreatePost.builder()
+                .content("content")
+                .title("title")
+                .userDto(requestUser)
+                .build());
+
+        //when
+        postService.findOne(postId);
+        boolean cachedAfterFind = cacheManager.getCache(PostService.POST_CACHE).get(postId) != null;
+
+        postService.update(postId, RequestUpdatePost.builder()
+                .title("update title")
+                .content("update content")
+                .build());
+        boolean cachedAfterUpdate = cacheManager.getCache(PostService.POST_CACHE).get(postId) != null;
+        String titleAfterUpdate = postService.findOne(postId).getTitle();
+
+        postService.delete(postId);
+        boolean cachedAfterDelete = cacheManager.getCache(PostService.POST_CACHE).get(postId) != null;
+
+        //then
+        assertThat(cachedAfterFind).isTrue();
+        assertThat(cachedAfterUpdate).isFalse();
+        assertThat(titleAfterUpdate).isEqualTo("update title");
+        assertThat(cachedAfterDelete).isFalse();
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("비우기 전에 읽기 시작한 조회 결과는 비운 뒤에 넣어도 캐시에 남지 않는다")
+    public void testFindOneCacheRace() throws Exception {
+        //given
+        Long postId = postService.save(RequestCreatePost.builder()
+                .content("content")
+                .title("title")
+                .userDto(requestUser)
+                .build());
+        PostDto stale = postService.findOne(postId);
+        postCache.evict(postId);
+
+        //when
+        long started = postCache.generation();
+        postCache.evict(postId);
+        postCache.put(postId, stale, started);
+
+        //then
+        assertThat(postCache.get(postId)).isNull();
+
+        postService.delete(postId);
+    }
+
+    @Test
+    @DisplayName("같은 이름의 작성자는 사용자를 한 번만 저장한다")
+    public void testSaveSameAuthor() throws Exception {
+        //given
+        RequestCreatePost request = RequestCreatePost.builder()
+                .content("content")
+                .title("title")
+                .userDto(UserDto.builder()
+                        .name("author")
+                        .age(27)
+                        .hobby("SPORTS")
+                        .build())
+                .build();
+
+        //when
+        Long first = postService.save(request);
+        Long second = postService.save(request);
+
+        //then
+        assertThat(postRepository.findById(first).get().getUser().getId())
+                .isEqualTo(postRepository.findById(second).get().getUser().getId());
+        assertThat(userRepository.findIdByName("author")).isPresent();
+    }
 }
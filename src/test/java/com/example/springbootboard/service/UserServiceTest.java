@@ -0,0 +1,140 @@
+package com.example.springbootboard.service;
+
+import com.example.springbootboard.config.ConnectionPools;
+import com.example.springbootboard.dto.UserDto;
+import com.example.springbootboard.dto.request.RequestCreatePost;
+import com.example.springbootboard.dto.request.RequestDeletePosts;
+import com.example.springbootboard.repository.UserRepository;
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 여러 스레드가 각자 커밋해야 하므로 테스트 트랜잭션을 쓰지 않는다
+@SpringBootTest
+public class UserServiceTest {
+
+    private static final int THREADS = 8;
+
+    @Autowired
+    UserService userService;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    PostService postService;
+
+    @Autowired
+    ConnectionPools connectionPools;
+
+    @Test
+    @DisplayName("새 작성자의 첫 게시물이 동시에 들어와도 작성자는 하나만 저장되고 모두 같은 id 를 받는다")
+    public void testFindOrCreateConcurrently() throws Exception {
+        //given
+        UserDto userDto = UserDto.builder()
+                .name("concurrent_author")
+                .age(27)
+                .hobby("SPORTS")
+                .build();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Long>> results = new ArrayList<>();
+        List<Long> userIds = new ArrayList<>();
+
+        //when
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return userService.findOrCreate(userDto);
+                }));
+            }
+            start.countDown();
+
+            for (Future<Long> result : results) {
+                userIds.add(result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        //then
+        Long userId = userRepository.findIdByName("concurrent_author").orElseThrow();
+        assertThat(userIds).containsOnly(userId);
+        assertThat(userRepository.findAll())
+                .filteredOn(user -> user.getName().equals("concurrent_author"))
+                .hasSize(1);
+    }
+
+    @Test
+    @DisplayName("풀 크기만큼 새 작성자의 첫 게시물이 동시에 들어와도 커넥션을 기다리다 실패하지 않는다")
+    public void testFirstPostsWithPoolSizedConcurrency() throws Exception {
+        //given
+        HikariDataSource pool = connectionPools.getPools().get(0);
+        HikariConfigMXBean config = pool.getHikariConfigMXBean();
+        int maximumPoolSize = config.getMaximumPoolSize();
+        int minimumIdle = config.getMinimumIdle();
+
+        RequestCreatePost request = RequestCreatePost.builder()
+                .userDto(UserDto.builder()
+                        .name("pool_author")
+                        .age(27)
+                        .hobby("SPORTS")
+                        .build())
+                .title("title")
+                .content("content")
+                .build();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Long>> results = new ArrayList<>();
+        List<Long> postIds = new ArrayList<>();
+
+        //when
+        try {
+            // 커넥션을 THREADS 개로 묶는다. 요청 하나가 둘을 잡으면 모두 connection-timeout 까지 기다리다 실패한다
+            config.setMinimumIdle(THREADS);
+            config.setMaximumPoolSize(THREADS);
+            pool.getHikariPoolMXBean().softEvictConnections();
+
+            for (int i = 0; i < THREADS; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return postService.save(request);
+                }));
+            }
+            start.countDown();
+
+            for (Future<Long> result : results) {
+                postIds.add(result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+            config.setMaximumPoolSize(maximumPoolSize);
+            config.setMinimumIdle(minimumIdle);
+        }
+
+        //then
+        try {
+            assertThat(postIds).hasSize(THREADS).doesNotContainNull().doesNotHaveDuplicates();
+            assertThat(userRepository.findAll())
+                    .filteredOn(user -> user.getName().equals("pool_author"))
+                    .hasSize(1);
+        } finally {
+            postService.deleteAll(RequestDeletePosts.builder().userName("pool_author").build());
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.springbootboard.validation;
+
+import com.example.springbootboard.dto.UserDto;
+import com.example.springbootboard.dto.request.RequestCreatePost;
+import com.example.springbootboard.dto.request.RequestCreatePostBatch;
+import com.example.springbootboard.dto.request.RequestSearchPost;
+import com.example.springbootboard.dto.request.RequestUpdatePost;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.validation.Validation;
+import javax.validation.Validator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestValidatorTest {
+
+    private final Validator beanValidator = Validation.buildDefaultValidatorFactory().getValidator();
+    private final RequestValidator requestValidator = new RequestValidator(beanValidator);
+
+    @Test
+    @DisplayName("요청 DTO 는 생성된 검증기로 검증한다")
+    public void testGenerated() throws Exception {
+        assertThat(requestValidator.isGenerated(RequestCreatePost.class)).isTrue();
+        assertThat(requestValidator.isGenerated(RequestCreatePostBatch.class)).isTrue();
+        assertThat(requestValidator.isGenerated(RequestUpdatePost.class)).isTrue();
+        assertThat(requestValidator.isGenerated(RequestSearchPost.class)).isTrue();
+        assertThat(requestValidator.isGenerated(UserDto.class)).isTrue();
+    }
+
+    @Test
+    @DisplayName("생성된 검증기는 Bean Validation 과 같은 위반을 찾는다")
+    public void testSameAsBeanValidation() throws Exception {
+        //given
+        List<Object> targets = List.of(
+                RequestCreatePost.builder().userDto(user("seunghun")).title("나는 전설이다").content("좀비").build(),
+                RequestCreatePost.builder().title(" ").build(),
+                RequestCreatePost.builder().userDto(user("seunghun")).title("가".repeat(41)).content("").build(),
+                user("seung..hun"),
+                user(""),
+                user(null),
+                UserDto.builder().name("_seunghun").build(),
+                RequestCreatePostBatch.builder().posts(List.of()).build(),
+                RequestCreatePostBatch.builder().build(),
+                RequestUpdatePost.builder().title("").content(null).build());
+
+        for (Object target : targets) {
+            //when
+            Set<String> generated = requestValidator.validate(target).stream()
+                    .map(violation -> violation.getField() + ":" + violation.getConstraint() + ":" + violation.getMessage())
+                    .collect(Collectors.toSet());
+
+            //then
+            Set<String> expected = beanValidator.validate(target).stream()
+                    .map(violation -> violation.getPropertyPath() + ":"
+                            + violation.getConstraintDescriptor().getAnnotation().annotationType().getSimpleName() + ":"
+                            + violation.getMessage())
+                    .collect(Collectors.toSet());
+
+            assertThat(generated).isEqualTo(expected);
+        }
+    }
+
+    private UserDto user(String name) {
+        return UserDto.builder()
+                .name(name)
+                .age(27)
+                .hobby("SPORTS")
+                .build();
+    }
+}